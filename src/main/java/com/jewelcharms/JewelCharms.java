@@ -6,6 +6,7 @@ import com.jewelcharms.config.ModConfig;
 import com.jewelcharms.config.RarityConfig;
 import com.jewelcharms.init.ModBlocks;
 import com.jewelcharms.init.ModItems;
+import com.jewelcharms.init.ModLootModifiers;
 import com.jewelcharms.init.ModMenuTypes;
 import com.jewelcharms.init.ModRecipeTypes;
 import com.jewelcharms.init.ModCreativeTabs;
@@ -43,6 +44,7 @@ public class JewelCharms {
         ModRecipeTypes.RECIPE_SERIALIZERS.register(modEventBus);
         ModCreativeTabs.CREATIVE_MODE_TABS.register(modEventBus);
         ModSounds.SOUNDS.register(modEventBus);
+        ModLootModifiers.LOOT_MODIFIER_SERIALIZERS.register(modEventBus);
 
         // Setup listeners
         modEventBus.addListener(this::commonSetup);
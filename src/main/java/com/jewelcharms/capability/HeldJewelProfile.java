@@ -0,0 +1,60 @@
+package com.jewelcharms.capability;
+
+import com.jewelcharms.util.JewelEffectProfile;
+import com.jewelcharms.util.JewelProfileCache;
+import com.jewelcharms.util.ToolJewelData;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+
+/**
+ * Player capability holding the jewel profile of the item in the main hand.
+ *
+ * The profile is only recomputed when it is invalidated (equipment change) or when the held stack, or its
+ * JewelCharms tag, is no longer the one it was computed from - which also covers hotbar scrolling and the
+ * client side, where equipment change events don't fire. Otherwise a read is a couple of identity checks.
+ */
+public class HeldJewelProfile {
+    public static final Capability<HeldJewelProfile> CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {});
+
+    private ItemStack stack = ItemStack.EMPTY;
+    private CompoundTag jewelTag;
+    private JewelEffectProfile profile = JewelEffectProfile.EMPTY;
+    private boolean dirty = true;
+
+    /**
+     * Profile of the player's main hand item
+     */
+    public static JewelEffectProfile get(Player player) {
+        HeldJewelProfile held = player.getCapability(CAPABILITY).orElse(null);
+        if (held == null) {
+            return JewelProfileCache.get(player.getMainHandItem());
+        }
+        return held.getProfile(player);
+    }
+
+    public JewelEffectProfile getProfile(Player player) {
+        ItemStack heldItem = player.getMainHandItem();
+        if (dirty || heldItem != stack || ToolJewelData.getJewelTag(heldItem) != jewelTag) {
+            recompute(heldItem);
+        }
+        return profile;
+    }
+
+    /**
+     * Force a recompute on the next read
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    private void recompute(ItemStack heldItem) {
+        stack = heldItem;
+        jewelTag = ToolJewelData.getJewelTag(heldItem);
+        profile = heldItem.isEmpty() ? JewelEffectProfile.EMPTY : JewelProfileCache.get(heldItem);
+        dirty = false;
+    }
+}
@@ -0,0 +1,130 @@
+package com.jewelcharms.capability;
+
+import com.jewelcharms.effect.EffectVector;
+import com.jewelcharms.effect.JewelEffect;
+import com.jewelcharms.util.ToolJewelData;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Server-side player capability indexing which inventory slots hold jeweled stacks, with each stack's
+ * effect presence mask.
+ *
+ * Kept up to date incrementally by listening to slot changes on the player's inventory menu and on any
+ * container they open, so inventory-wide queries (soulbound, binding) only visit the handful of jeweled
+ * slots instead of decoding every stack. Changes are seen when the menu syncs, so the index can trail the
+ * inventory by a tick; callers should still check the stack they act on.
+ * Slot numbers are {@link Inventory} indices.
+ */
+public class JewelSlotIndex implements ContainerListener {
+    public static final Capability<JewelSlotIndex> CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {});
+
+    private final BitSet jeweledSlots = new BitSet();
+    private long[] slotMasks = new long[0];
+    private Player player;
+
+    /**
+     * The player's index, or null on the client or before the player has joined a level
+     */
+    public static JewelSlotIndex get(Player player) {
+        JewelSlotIndex index = player.getCapability(CAPABILITY).orElse(null);
+        return index != null && index.player != null ? index : null;
+    }
+
+    /**
+     * Start tracking the player's inventory. Safe to call again (e.g. on every level join).
+     */
+    public void bind(Player player) {
+        if (this.player == player) {
+            return;
+        }
+        this.player = player;
+        player.inventoryMenu.addSlotListener(this);
+        rebuild();
+    }
+
+    /**
+     * Also follow the player's inventory slots while another container is open
+     */
+    public void listenTo(AbstractContainerMenu menu) {
+        if (player != null && menu != player.inventoryMenu) {
+            menu.addSlotListener(this);
+        }
+    }
+
+    /**
+     * Re-read every inventory slot
+     */
+    public void rebuild() {
+        Inventory inventory = player.getInventory();
+        slotMasks = new long[inventory.getContainerSize()];
+        jeweledSlots.clear();
+        for (int i = 0; i < slotMasks.length; i++) {
+            update(i, inventory.getItem(i));
+        }
+    }
+
+    @Override
+    public void slotChanged(AbstractContainerMenu menu, int menuSlot, ItemStack stack) {
+        Slot slot = menu.getSlot(menuSlot);
+        if (slot.container == player.getInventory()) {
+            update(slot.getContainerSlot(), stack);
+        }
+    }
+
+    @Override
+    public void dataChanged(AbstractContainerMenu menu, int id, int value) {
+    }
+
+    private void update(int slot, ItemStack stack) {
+        if (slot >= slotMasks.length) {
+            return;
+        }
+        long mask = stack.isEmpty() ? 0 : ToolJewelData.getEffectMask(stack);
+        slotMasks[slot] = mask;
+        jeweledSlots.set(slot, mask != 0);
+    }
+
+    // ========== QUERIES ==========
+
+    public long getSlotMask(int slot) {
+        return slot < slotMasks.length ? slotMasks[slot] : 0;
+    }
+
+    /**
+     * Union of the effect masks of every jeweled stack in the inventory
+     */
+    public long getCombinedMask() {
+        long combined = 0;
+        for (int slot = jeweledSlots.nextSetBit(0); slot >= 0; slot = jeweledSlots.nextSetBit(slot + 1)) {
+            combined |= slotMasks[slot];
+        }
+        return combined;
+    }
+
+    public boolean hasEffect(JewelEffect effect) {
+        return (getCombinedMask() & EffectVector.bit(effect)) != 0;
+    }
+
+    /**
+     * Visit every inventory slot holding a stack with the given effect
+     */
+    public void forEachSlotWith(JewelEffect effect, IntConsumer action) {
+        long bit = EffectVector.bit(effect);
+        for (int slot = jeweledSlots.nextSetBit(0); slot >= 0; slot = jeweledSlots.nextSetBit(slot + 1)) {
+            if ((slotMasks[slot] & bit) != 0) {
+                action.accept(slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jewelcharms.capability;
+
+import com.jewelcharms.JewelCharms;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.capabilities.RegisterCapabilitiesEvent;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Registers and attaches the mod's capabilities
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ModCapabilities {
+    public static final ResourceLocation HELD_JEWEL_PROFILE_ID = new ResourceLocation(JewelCharms.MOD_ID, "held_jewel_profile");
+    public static final ResourceLocation JEWEL_SLOT_INDEX_ID = new ResourceLocation(JewelCharms.MOD_ID, "jewel_slot_index");
+
+    @SubscribeEvent
+    public static void onAttachEntityCapabilities(AttachCapabilitiesEvent<Entity> event) {
+        if (event.getObject() instanceof Player) {
+            SimpleProvider<HeldJewelProfile> provider = new SimpleProvider<>(HeldJewelProfile.CAPABILITY, new HeldJewelProfile());
+            event.addCapability(HELD_JEWEL_PROFILE_ID, provider);
+            event.addListener(provider::invalidate);
+        }
+        if (event.getObject() instanceof ServerPlayer) {
+            SimpleProvider<JewelSlotIndex> provider = new SimpleProvider<>(JewelSlotIndex.CAPABILITY, new JewelSlotIndex());
+            event.addCapability(JEWEL_SLOT_INDEX_ID, provider);
+            event.addListener(provider::invalidate);
+        }
+    }
+
+    /**
+     * The inventory menu doesn't exist yet when capabilities are attached, so the slot index binds here
+     */
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            player.getCapability(JewelSlotIndex.CAPABILITY).ifPresent(index -> index.bind(player));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onContainerOpen(PlayerContainerEvent.Open event) {
+        JewelSlotIndex index = JewelSlotIndex.get(event.getEntity());
+        if (index != null) {
+            index.listenTo(event.getContainer());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (event.getSlot() == EquipmentSlot.MAINHAND && event.getEntity() instanceof Player player) {
+            player.getCapability(HeldJewelProfile.CAPABILITY).ifPresent(HeldJewelProfile::invalidate);
+        }
+    }
+
+    /**
+     * Register capabilities on the MOD bus
+     */
+    @Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.MOD)
+    public static class ModEventHandler {
+
+        @SubscribeEvent
+        public static void onRegisterCapabilities(RegisterCapabilitiesEvent event) {
+            event.register(HeldJewelProfile.class);
+            event.register(JewelSlotIndex.class);
+        }
+    }
+
+    /**
+     * Not serialized: both capabilities are derived from the player's items and rebuilt on demand
+     */
+    private static class SimpleProvider<C> implements ICapabilityProvider {
+        private final Capability<C> capability;
+        private final LazyOptional<C> optional;
+
+        SimpleProvider(Capability<C> capability, C instance) {
+            this.capability = capability;
+            this.optional = LazyOptional.of(() -> instance);
+        }
+
+        @Override
+        public <T> LazyOptional<T> getCapability(Capability<T> cap, Direction side) {
+            return capability.orEmpty(cap, optional);
+        }
+
+        void invalidate() {
+            optional.invalidate();
+        }
+    }
+}
@@ -4,10 +4,12 @@ import com.jewelcharms.JewelCharms;
 import com.jewelcharms.client.gui.JewelEffectHUD;
 import com.jewelcharms.client.renderer.JeweledItemGlowRenderer;
 import com.jewelcharms.client.sound.JewelSoundManager;
+import com.jewelcharms.util.JewelRegistry;
 import com.jewelcharms.util.ToolJewelData;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.RegisterGuiOverlaysEvent;
 import net.minecraftforge.client.event.RenderItemInFrameEvent;
 import net.minecraftforge.client.gui.overlay.VanillaGuiOverlay;
@@ -32,6 +34,9 @@ public class ClientEventHandler {
             // Update glow renderer animation
             JeweledItemGlowRenderer.tick();
 
+            // Move Gravity Tether items along their orbits
+            GravityTetherOrbits.tick();
+
             // Play ambient shimmer for held jeweled items
             Minecraft mc = Minecraft.getInstance();
             if (mc.player != null && mc.level != null) {
@@ -44,6 +49,15 @@ public class ClientEventHandler {
         }
     }
 
+    /**
+     * Forget the previous server's jewel definitions
+     */
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        JewelRegistry.clear();
+        GravityTetherOrbits.clear();
+    }
+
     /**
      * Register GUI overlays on the MOD bus
      */
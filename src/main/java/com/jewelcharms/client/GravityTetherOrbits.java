@@ -0,0 +1,123 @@
+package com.jewelcharms.client;
+
+import com.jewelcharms.effect.GravityTetherTracker;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Client-side orbit motion for Gravity Tether items
+ * The server keeps tethered items frozen and only sends attach/detach events; the circle is computed here
+ * from each item's phase, radius, height and start tick
+ */
+@OnlyIn(Dist.CLIENT)
+public class GravityTetherOrbits {
+
+    private static class Orbit {
+        final int playerId;
+        final float phase;
+        final float radius;
+        final float height;
+        final long startTick;
+        int missingTicks;
+
+        Orbit(int playerId, float phase, float radius, float height, long startTick) {
+            this.playerId = playerId;
+            this.phase = phase;
+            this.radius = radius;
+            this.height = height;
+            this.startTick = startTick;
+        }
+    }
+
+    /** An orbit whose item never shows up here is forgotten after this long; the server resends it on tracking */
+    private static final int MISSING_TIMEOUT = 100;
+
+    private static final Int2ObjectMap<Orbit> orbits = new Int2ObjectOpenHashMap<>();
+    private static ClientLevel orbitLevel;
+
+    public static void attach(int playerId, int entityId, float phase, float radius, float height, long startTick) {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level != orbitLevel) {
+            orbits.clear();
+            orbitLevel = mc.level;
+        }
+        orbits.put(entityId, new Orbit(playerId, phase, radius, height, startTick));
+    }
+
+    public static void detach(int playerId, int entityId, boolean collected) {
+        Orbit orbit = orbits.get(entityId);
+        if (orbit == null || orbit.playerId != playerId) {
+            return;
+        }
+        orbits.remove(entityId);
+
+        if (collected && orbitLevel != null) {
+            Entity item = orbitLevel.getEntity(entityId);
+            if (item != null && orbitLevel.getEntity(playerId) instanceof Player player) {
+                JewelEffectVisualCoordinator.triggerGravityTetherEffect(item, player);
+            }
+        }
+    }
+
+    /**
+     * Move every orbiting item to its place on the circle around its player
+     */
+    public static void tick() {
+        if (orbits.isEmpty()) {
+            return;
+        }
+
+        Minecraft mc = Minecraft.getInstance();
+        ClientLevel level = mc.level;
+        if (level == null || level != orbitLevel) {
+            clear();
+            return;
+        }
+
+        long gameTime = level.getGameTime();
+        ObjectIterator<Int2ObjectMap.Entry<Orbit>> iterator = orbits.int2ObjectEntrySet().iterator();
+        while (iterator.hasNext()) {
+            Int2ObjectMap.Entry<Orbit> entry = iterator.next();
+            Orbit orbit = entry.getValue();
+            Entity item = level.getEntity(entry.getIntKey());
+            if (item == null) {
+                // Not (yet) tracked here, e.g. the attach arrived before the item spawned
+                if (++orbit.missingTicks > MISSING_TIMEOUT) {
+                    iterator.remove();
+                }
+                continue;
+            }
+            if (item.isRemoved()) {
+                iterator.remove();
+                continue;
+            }
+            orbit.missingTicks = 0;
+
+            Entity player = level.getEntity(orbit.playerId);
+            if (player == null) {
+                // Player left (e.g. changed dimension); the server released the item
+                iterator.remove();
+                continue;
+            }
+
+            float angle = orbit.phase + GravityTetherTracker.ORBIT_SPEED * (gameTime - orbit.startTick);
+            double x = player.getX() + Mth.cos(angle) * orbit.radius;
+            double y = player.getY() + player.getEyeHeight() * 0.5 + orbit.height;
+            double z = player.getZ() + Mth.sin(angle) * orbit.radius;
+            item.setPos(x, y, z);
+        }
+    }
+
+    public static void clear() {
+        orbits.clear();
+        orbitLevel = null;
+    }
+}
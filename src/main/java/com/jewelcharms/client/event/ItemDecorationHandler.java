@@ -4,11 +4,13 @@ import com.jewelcharms.JewelCharms;
 import com.jewelcharms.util.ToolJewelData;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.RegisterItemDecorationsEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ForgeRegistries;
 
 import java.util.List;
 
@@ -17,32 +19,9 @@ public class ItemDecorationHandler {
 
     @SubscribeEvent
     public static void registerItemDecorations(RegisterItemDecorationsEvent event) {
-        // Register decorators for all tool types that can have jewels
-        // We need to register for each specific item type
-        net.minecraft.world.item.Item[] tools = {
-            net.minecraft.world.item.Items.DIAMOND_SWORD,
-            net.minecraft.world.item.Items.DIAMOND_PICKAXE,
-            net.minecraft.world.item.Items.DIAMOND_AXE,
-            net.minecraft.world.item.Items.DIAMOND_SHOVEL,
-            net.minecraft.world.item.Items.DIAMOND_HOE,
-            net.minecraft.world.item.Items.NETHERITE_SWORD,
-            net.minecraft.world.item.Items.NETHERITE_PICKAXE,
-            net.minecraft.world.item.Items.NETHERITE_AXE,
-            net.minecraft.world.item.Items.NETHERITE_SHOVEL,
-            net.minecraft.world.item.Items.NETHERITE_HOE,
-            net.minecraft.world.item.Items.IRON_SWORD,
-            net.minecraft.world.item.Items.IRON_PICKAXE,
-            net.minecraft.world.item.Items.IRON_AXE,
-            net.minecraft.world.item.Items.IRON_SHOVEL,
-            net.minecraft.world.item.Items.IRON_HOE,
-            net.minecraft.world.item.Items.GOLDEN_SWORD,
-            net.minecraft.world.item.Items.GOLDEN_PICKAXE,
-            net.minecraft.world.item.Items.GOLDEN_AXE,
-            net.minecraft.world.item.Items.GOLDEN_SHOVEL,
-            net.minecraft.world.item.Items.GOLDEN_HOE
-        };
-
-        for (net.minecraft.world.item.Item tool : tools) {
+        // Tags aren't bound yet when decorations are registered, so tag-only modded tools can't be told apart
+        // here; register for every item and let the jewel count check skip the rest
+        for (Item tool : ForgeRegistries.ITEMS) {
             event.register(tool, (guiGraphics, font, stack, xOffset, yOffset) -> {
                 return renderJewelDots(guiGraphics, stack, xOffset, yOffset);
             });
@@ -50,6 +29,10 @@ public class ItemDecorationHandler {
     }
 
     private static boolean renderJewelDots(GuiGraphics guiGraphics, ItemStack stack, int xOffset, int yOffset) {
+        if (ToolJewelData.getJewelCount(stack) == 0) {
+            return false;
+        }
+
         List<ToolJewelData.AttachedJewel> jewels = ToolJewelData.getAttachedJewels(stack);
 
         if (jewels.isEmpty()) {
@@ -81,10 +81,7 @@ public class JewelEffectHUD implements IGuiOverlay {
             List<ToolJewelData.AttachedJewel> jewels = ToolJewelData.getAttachedJewels(heldItem);
 
             for (ToolJewelData.AttachedJewel jewel : jewels) {
-                for (Map.Entry<JewelEffect, Integer> effectEntry : jewel.getEffects().entrySet()) {
-                    JewelEffect effect = effectEntry.getKey();
-                    int level = effectEntry.getValue();
-
+                jewel.getEffects().forEach((effect, level) -> {
                     // Check if effect was already active
                     EffectDisplay existing = activeEffects.get(effect);
                     if (existing != null) {
@@ -101,7 +98,7 @@ public class JewelEffectHUD implements IGuiOverlay {
                         newDisplay.currentDurability = heldItem.getMaxDamage() - heldItem.getDamageValue();
                         newEffects.put(effect, newDisplay);
                     }
-                }
+                });
             }
         }
 
@@ -102,9 +102,8 @@ public class JewelPreviewTooltip implements ClientTooltipComponent {
 
         // Group effects by category
         Map<JewelEffect.EffectCategory, List<Map.Entry<JewelEffect, Integer>>> categorizedEffects = new HashMap<>();
-        for (Map.Entry<JewelEffect, Integer> entry : previewData.getEffects().entrySet()) {
-            categorizedEffects.computeIfAbsent(entry.getKey().getCategory(), k -> new ArrayList<>()).add(entry);
-        }
+        previewData.getEffects().forEach((effect, level) ->
+            categorizedEffects.computeIfAbsent(effect.getCategory(), k -> new ArrayList<>()).add(Map.entry(effect, level)));
 
         // Render effects by category
         for (JewelEffect.EffectCategory category : JewelEffect.EffectCategory.values()) {
@@ -230,7 +229,7 @@ public class JewelPreviewTooltip implements ClientTooltipComponent {
 
         int baseHeight = 40; // Title + rarity
         baseHeight += materials.size() * 9 + 15; // Materials
-        baseHeight += previewData.getEffects().size() * 9 + 30; // Effects with categories
+        baseHeight += previewData.getEffects().count() * 9 + 30; // Effects with categories
         baseHeight += 30; // Color preview
         baseHeight += 20; // Puzzle info
 
@@ -139,7 +139,7 @@ public class JeweledItemGlowRenderer {
         for (ToolJewelData.AttachedJewel jewel : jewels) {
             // Calculate intensity based on number of effects
             // More effects = stronger glow
-            int effectCount = jewel.getEffects().size();
+            int effectCount = jewel.getEffects().count();
             intensity += Math.min(effectCount * 0.3f, 1.0f);
         }
         return Math.min(intensity, 1.0f);
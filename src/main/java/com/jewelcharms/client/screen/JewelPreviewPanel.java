@@ -17,9 +17,11 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Helper class to render jewel preview panel in creation station
@@ -88,9 +90,8 @@ public class JewelPreviewPanel {
 
         // Group and render effects by category
         Map<JewelEffect.EffectCategory, List<Map.Entry<JewelEffect, Integer>>> categorized = new HashMap<>();
-        for (Map.Entry<JewelEffect, Integer> entry : jewelData.getEffects().entrySet()) {
-            categorized.computeIfAbsent(entry.getKey().getCategory(), k -> new ArrayList<>()).add(entry);
-        }
+        jewelData.getEffects().forEach((effect, level) ->
+            categorized.computeIfAbsent(effect.getCategory(), k -> new ArrayList<>()).add(Map.entry(effect, level)));
 
         for (JewelEffect.EffectCategory category : JewelEffect.EffectCategory.values()) {
             List<Map.Entry<JewelEffect, Integer>> effects = categorized.get(category);
@@ -150,7 +151,7 @@ public class JewelPreviewPanel {
     private static int calculatePanelHeight(JewelData jewelData, int materialCount) {
         int height = 30; // Title + rarity
         height += 15; // Effects header
-        height += jewelData.getEffects().size() * 8; // Each effect
+        height += jewelData.getEffects().count() * 8; // Each effect
         height += getUniqueCategoryCount(jewelData) * 9; // Category headers
         height += 30; // Puzzle info + skip cost
         height += 15; // Color preview
@@ -159,10 +160,9 @@ public class JewelPreviewPanel {
     }
 
     private static int getUniqueCategoryCount(JewelData jewelData) {
-        return (int) jewelData.getEffects().keySet().stream()
-            .map(JewelEffect::getCategory)
-            .distinct()
-            .count();
+        Set<JewelEffect.EffectCategory> categories = EnumSet.noneOf(JewelEffect.EffectCategory.class);
+        jewelData.getEffects().forEach((effect, level) -> categories.add(effect.getCategory()));
+        return categories.size();
     }
 
     private static Component getRarityText(JewelRarity rarity) {
@@ -25,6 +25,7 @@ public class MaterialEffectConfig {
 
     private List<MaterialMapping> materials = new ArrayList<>();
     private transient Map<String, MaterialMapping> materialMap = new HashMap<>();
+    private transient Map<String, Item> itemsByMaterialName;
 
     public static MaterialEffectConfig getInstance() {
         return instance;
@@ -72,6 +73,7 @@ public class MaterialEffectConfig {
             materialMap = new HashMap<>();
         }
         materialMap.clear();
+        itemsByMaterialName = null;
 
         if (materials == null) {
             materials = new ArrayList<>();
@@ -113,6 +115,24 @@ public class MaterialEffectConfig {
         return getMapping(itemId.toString());
     }
 
+    /**
+     * Resolve a stored material name (the item path, e.g. "diamond") back to its item
+     */
+    public Item getItemForMaterialName(String materialName) {
+        Map<String, Item> lookup = itemsByMaterialName;
+        if (lookup == null) {
+            lookup = new HashMap<>();
+            for (MaterialMapping mapping : materials) {
+                ResourceLocation itemId = mapping == null ? null : ResourceLocation.tryParse(mapping.getMaterialId());
+                if (itemId != null && ForgeRegistries.ITEMS.containsKey(itemId)) {
+                    lookup.putIfAbsent(itemId.getPath(), ForgeRegistries.ITEMS.getValue(itemId));
+                }
+            }
+            itemsByMaterialName = lookup;
+        }
+        return lookup.get(materialName);
+    }
+
     public List<MaterialMapping> getAllMappings() {
         return new ArrayList<>(materials);
     }
@@ -1,5 +1,6 @@
 package com.jewelcharms.config;
 
+import com.jewelcharms.effect.EffectVector;
 import com.jewelcharms.effect.JewelEffect;
 
 import java.util.HashMap;
@@ -9,6 +10,7 @@ public class MaterialMapping {
     private String materialId;
     private Map<String, Integer> effects;
     private int color;
+    private transient EffectVector effectVector;
 
     public MaterialMapping() {
         this.effects = new HashMap<>();
@@ -34,15 +36,23 @@ public class MaterialMapping {
 
     public void setEffects(Map<String, Integer> effects) {
         this.effects = effects;
+        this.effectVector = null;
     }
 
-    public Map<JewelEffect, Integer> getEffectsAsEnum() {
-        Map<JewelEffect, Integer> result = new HashMap<>();
-        for (Map.Entry<String, Integer> entry : effects.entrySet()) {
-            JewelEffect effect = JewelEffect.fromId(entry.getKey());
-            if (effect != null) {
-                result.put(effect, entry.getValue());
+    /**
+     * Effects resolved to enum form. Built on first use and shared afterwards.
+     */
+    public EffectVector getEffectVector() {
+        EffectVector result = effectVector;
+        if (result == null) {
+            result = new EffectVector();
+            for (Map.Entry<String, Integer> entry : effects.entrySet()) {
+                JewelEffect effect = JewelEffect.fromId(entry.getKey());
+                if (effect != null) {
+                    result.add(effect, entry.getValue());
+                }
             }
+            effectVector = result.freeze();
         }
         return result;
     }
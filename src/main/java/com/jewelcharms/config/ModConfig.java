@@ -1,6 +1,7 @@
 package com.jewelcharms.config;
 
 import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.common.ForgeConfigSpec.BooleanValue;
 import net.minecraftforge.common.ForgeConfigSpec.Builder;
 import net.minecraftforge.common.ForgeConfigSpec.DoubleValue;
 import net.minecraftforge.common.ForgeConfigSpec.IntValue;
@@ -12,6 +13,7 @@ public class ModConfig {
         // Game Mechanics
         public final IntValue maxJewelsPerTool;
         public final IntValue materialSlotsInCreationStation;
+        public final BooleanValue useWorldJewelRegistry;
 
         // Effect Multipliers - Tool Effects
         public final DoubleValue miningSpeedMultiplierPerLevel;
@@ -41,6 +43,12 @@ public class ModConfig {
         public final DoubleValue moonPhaseDamageBonus;
         public final DoubleValue biomeResonanceBonus;
 
+        // Performance
+        public final IntValue multiBlockBreaksPerTick;
+        public final IntValue multiBlockBreakBudgetMicros;
+        public final IntValue deliveryOverflowStacks;
+        public final IntValue areaAttackMaxTargets;
+
         // GUI Settings
         public final IntValue creationStationGuiWidth;
         public final IntValue creationStationGuiHeight;
@@ -62,6 +70,14 @@ public class ModConfig {
                     .comment("Number of material slots in the Jewel Creation Station")
                     .defineInRange("materialSlotsInCreationStation", 3, 1, 5);
 
+            useWorldJewelRegistry = builder
+                    .comment("Store jewels on items as a reference into a per-world registry instead of the full definition.",
+                            "Shrinks chunk, player and network data. References only resolve in the world that made them, so",
+                            "structure files, copied player data and other exports taken while enabled lose their jewels elsewhere.",
+                            "When disabled, stored references are replaced with full definitions as items are loaded: disable it",
+                            "and load the items (log in, open their containers) before exporting them.")
+                    .define("useWorldJewelRegistry", true);
+
             builder.pop();
 
             // Tool Effects
@@ -164,6 +180,29 @@ public class ModConfig {
 
             builder.pop();
 
+            // Performance
+            builder.comment("Performance Settings").push("performance");
+
+            multiBlockBreaksPerTick = builder
+                    .comment("Maximum blocks broken per tick, per dimension, by vein mining and tree felling.",
+                            "Larger operations continue over the following ticks.")
+                    .defineInRange("multiBlockBreaksPerTick", 32, 1, 1024);
+
+            multiBlockBreakBudgetMicros = builder
+                    .comment("Time budget per tick, per dimension, for vein mining and tree felling (in microseconds)")
+                    .defineInRange("multiBlockBreakBudgetMicros", 2000, 100, 50000);
+
+            deliveryOverflowStacks = builder
+                    .comment("Stacks Ender Pocket and Item Magnet hold per player when the inventory is full.",
+                            "Held items are retried every second; beyond this limit they are dropped at the player.")
+                    .defineInRange("deliveryOverflowStacks", 27, 1, 256);
+
+            areaAttackMaxTargets = builder
+                    .comment("Maximum extra entities hit by one Sweeping Edge attack (nearest first)")
+                    .defineInRange("areaAttackMaxTargets", 8, 1, 64);
+
+            builder.pop();
+
             // GUI Settings
             builder.comment("GUI Dimension Settings").push("gui");
 
@@ -227,6 +266,22 @@ public class ModConfig {
         return COMMON.treeFellingMaxBlocks.get();
     }
 
+    public static int getMultiBlockBreaksPerTick() {
+        return COMMON.multiBlockBreaksPerTick.get();
+    }
+
+    public static int getMultiBlockBreakBudgetMicros() {
+        return COMMON.multiBlockBreakBudgetMicros.get();
+    }
+
+    public static int getDeliveryOverflowStacks() {
+        return COMMON.deliveryOverflowStacks.get();
+    }
+
+    public static int getAreaAttackMaxTargets() {
+        return COMMON.areaAttackMaxTargets.get();
+    }
+
     public static double getKnockbackPerLevel() {
         return COMMON.knockbackPerLevel.get();
     }
@@ -239,6 +294,10 @@ public class ModConfig {
         return COMMON.dominoEffectChainTimeout.get();
     }
 
+    public static boolean isWorldJewelRegistryEnabled() {
+        return COMMON.useWorldJewelRegistry.get();
+    }
+
     public static int getMaterialSlots() {
         return COMMON.materialSlotsInCreationStation.get();
     }
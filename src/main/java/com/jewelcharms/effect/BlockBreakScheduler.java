@@ -0,0 +1,174 @@
+package com.jewelcharms.effect;
+
+import com.jewelcharms.JewelCharms;
+import com.jewelcharms.config.ModConfig;
+import com.jewelcharms.util.BlockMutationBatch;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Spreads multi-block breaks (vein mining, tree felling) over several ticks.
+ *
+ * Each ServerLevel has its own queue, drained at the end of the level tick within a per-tick block and time
+ * budget. Players take turns one block at a time, so one huge tree can't starve everyone else's breaks.
+ * A player's pending breaks are dropped when they log out, leave the level or stop holding the tool.
+ * The blocks broken in one tick are applied as a single {@link BlockMutationBatch}.
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class BlockBreakScheduler {
+
+    private static class BreakJob {
+        final ItemStack tool;
+        final ArrayDeque<BlockPos> positions;
+        final Predicate<BlockState> stillValid;
+        final DropCollector drops;
+        final Consumer<BlockPos> afterBreak;
+
+        BreakJob(ItemStack tool, Collection<BlockPos> positions, Predicate<BlockState> stillValid, DropCollector drops,
+                 Consumer<BlockPos> afterBreak) {
+            this.tool = tool;
+            this.positions = new ArrayDeque<>(positions);
+            this.stillValid = stillValid;
+            this.drops = drops;
+            this.afterBreak = afterBreak;
+        }
+    }
+
+    private static class PlayerBreaks {
+        final ServerPlayer player;
+        final ArrayDeque<BreakJob> jobs = new ArrayDeque<>();
+
+        PlayerBreaks(ServerPlayer player) {
+            this.player = player;
+        }
+    }
+
+    private static class LevelQueue {
+        final Map<UUID, PlayerBreaks> byPlayer = new HashMap<>();
+        final ArrayDeque<PlayerBreaks> rotation = new ArrayDeque<>();
+    }
+
+    private static final Map<ResourceKey<Level>, LevelQueue> queues = new HashMap<>();
+
+    /**
+     * Queue blocks to be broken by a player with the given tool.
+     * @param stillValid re-checked right before each break, since the world may have changed meanwhile
+     * @param drops receives the drops of every broken block; flushed at the end of each tick
+     * @param afterBreak called after each block is broken (e.g. to damage the tool)
+     */
+    public static void schedule(ServerLevel level, ServerPlayer player, ItemStack tool, Collection<BlockPos> positions,
+                                Predicate<BlockState> stillValid, DropCollector drops, Consumer<BlockPos> afterBreak) {
+        if (positions.isEmpty()) {
+            return;
+        }
+
+        LevelQueue queue = queues.computeIfAbsent(level.dimension(), key -> new LevelQueue());
+        PlayerBreaks breaks = queue.byPlayer.get(player.getUUID());
+        if (breaks == null || breaks.player != player) {
+            breaks = new PlayerBreaks(player);
+            queue.byPlayer.put(player.getUUID(), breaks);
+            queue.rotation.removeIf(entry -> entry.player.getUUID().equals(player.getUUID()));
+            queue.rotation.addLast(breaks);
+        }
+        breaks.jobs.addLast(new BreakJob(tool, positions, stillValid, drops, afterBreak));
+    }
+
+    /**
+     * Drop every pending break of a player
+     */
+    public static void cancel(UUID playerId) {
+        for (LevelQueue queue : queues.values()) {
+            PlayerBreaks breaks = queue.byPlayer.remove(playerId);
+            if (breaks != null) {
+                queue.rotation.remove(breaks);
+            }
+        }
+    }
+
+    public static boolean hasPending(ServerPlayer player) {
+        LevelQueue queue = queues.get(player.level().dimension());
+        return queue != null && queue.byPlayer.containsKey(player.getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel level)) {
+            return;
+        }
+
+        LevelQueue queue = queues.get(level.dimension());
+        if (queue == null || queue.rotation.isEmpty()) {
+            return;
+        }
+
+        int remaining = ModConfig.getMultiBlockBreaksPerTick();
+        long deadline = System.nanoTime() + ModConfig.getMultiBlockBreakBudgetMicros() * 1000L;
+        BlockMutationBatch batch = new BlockMutationBatch(level);
+        Set<DropCollector> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        while (remaining > 0 && !queue.rotation.isEmpty() && System.nanoTime() < deadline) {
+            PlayerBreaks breaks = queue.rotation.pollFirst();
+            BreakJob job = breaks.jobs.peekFirst();
+
+            if (job == null || !canContinue(level, breaks.player, job)) {
+                // Logged out, changed level or switched tools: drop everything still queued for them
+                queue.byPlayer.remove(breaks.player.getUUID());
+                continue;
+            }
+
+            BlockPos pos = job.positions.pollFirst();
+            if (pos != null && level.isLoaded(pos) && job.stillValid.test(level.getBlockState(pos))
+                    && batch.destroy(pos, breaks.player, job.drops)) {
+                touched.add(job.drops);
+                job.afterBreak.accept(pos);
+                remaining--;
+            }
+
+            if (job.positions.isEmpty()) {
+                breaks.jobs.pollFirst();
+            }
+            if (breaks.jobs.isEmpty()) {
+                queue.byPlayer.remove(breaks.player.getUUID());
+            } else {
+                queue.rotation.addLast(breaks);
+            }
+        }
+
+        // Everything broken this tick goes out together, one update per chunk section, with merged drops
+        batch.apply();
+        for (DropCollector drops : touched) {
+            drops.flush();
+        }
+    }
+
+    private static boolean canContinue(ServerLevel level, ServerPlayer player, BreakJob job) {
+        return !player.isRemoved() && !player.hasDisconnected() && player.level() == level
+                && !job.tool.isEmpty() && player.getMainHandItem() == job.tool;
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        cancel(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            queues.remove(level.dimension());
+        }
+    }
+}
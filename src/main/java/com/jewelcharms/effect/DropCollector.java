@@ -0,0 +1,89 @@
+package com.jewelcharms.effect;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Gathers the item drops of one effect activation (a block break, a tick of vein mining or tree felling)
+ * and delivers them together.
+ *
+ * Identical stacks are merged as they are added, so a felled tree ends up as a handful of full stacks
+ * instead of one ItemEntity per log. On {@link #flush()} the stacks go straight to the player with Ender
+ * Pocket or Item Magnet (see {@link DropDelivery}) and are otherwise spawned at the origin block.
+ */
+public class DropCollector {
+    private final Level level;
+    private final BlockPos origin;
+    private final Player player;
+    private final EffectVector effects;
+    /** Merged stacks; counts may exceed the max stack size until they are split on delivery */
+    private final List<ItemStack> stacks = new ArrayList<>();
+
+    public DropCollector(Level level, BlockPos origin, Player player, EffectVector effects) {
+        this.level = level;
+        this.origin = origin.immutable();
+        this.player = player;
+        this.effects = effects;
+    }
+
+    public void add(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return;
+        }
+        for (ItemStack existing : stacks) {
+            if (ItemStack.isSameItemSameTags(existing, stack)) {
+                existing.grow(stack.getCount());
+                return;
+            }
+        }
+        stacks.add(stack.copy());
+    }
+
+    public void addAll(Collection<ItemStack> drops) {
+        for (ItemStack stack : drops) {
+            add(stack);
+        }
+    }
+
+    public boolean isEmpty() {
+        return stacks.isEmpty();
+    }
+
+    /**
+     * Deliver everything collected so far and start over
+     */
+    public void flush() {
+        if (stacks.isEmpty() || level.isClientSide) {
+            return;
+        }
+
+        boolean toPlayer = player.level() == level && DropDelivery.isDelivering(effects);
+
+        for (ItemStack merged : stacks) {
+            int remaining = merged.getCount();
+            int maxSize = merged.getMaxStackSize();
+            while (remaining > 0) {
+                ItemStack stack = merged.copyWithCount(Math.min(remaining, maxSize));
+                remaining -= stack.getCount();
+
+                if (!toPlayer || !DropDelivery.deliver(player, stack)) {
+                    spawn(stack, origin.getX() + 0.5, origin.getY() + 0.5, origin.getZ() + 0.5);
+                }
+            }
+        }
+        stacks.clear();
+    }
+
+    private void spawn(ItemStack stack, double x, double y, double z) {
+        ItemEntity entity = new ItemEntity(level, x, y, z, stack);
+        entity.setDefaultPickUpDelay();
+        level.addFreshEntity(entity);
+    }
+}
@@ -0,0 +1,133 @@
+package com.jewelcharms.effect;
+
+import com.jewelcharms.JewelCharms;
+import com.jewelcharms.config.ModConfig;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.*;
+
+/**
+ * Puts drops straight into a player's inventory for Ender Pocket and Item Magnet, without an ItemEntity.
+ *
+ * Whatever doesn't fit is held in a small per-player overflow buffer, merged into full stacks. The buffer
+ * is retried against the inventory once a second and anything still left is then dropped at the player
+ * as a few consolidated entities. A buffer that grows past the configured size is flushed right away.
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class DropDelivery {
+    private static final int FLUSH_INTERVAL = 20;
+
+    private static class Overflow {
+        ServerPlayer player;
+        final List<ItemStack> stacks = new ArrayList<>();
+
+        Overflow(ServerPlayer player) {
+            this.player = player;
+        }
+
+        void add(ItemStack stack) {
+            for (ItemStack existing : stacks) {
+                if (existing.getCount() < existing.getMaxStackSize() && ItemStack.isSameItemSameTags(existing, stack)) {
+                    int moved = Math.min(stack.getCount(), existing.getMaxStackSize() - existing.getCount());
+                    existing.grow(moved);
+                    stack.shrink(moved);
+                    if (stack.isEmpty()) {
+                        return;
+                    }
+                }
+            }
+            stacks.add(stack);
+        }
+    }
+
+    private static final Map<UUID, Overflow> overflows = new HashMap<>();
+    private static int tickCounter;
+
+    /**
+     * Whether drops of a tool with these effects go straight to the player
+     */
+    public static boolean isDelivering(EffectVector effects) {
+        return effects.has(JewelEffect.TELEPORT_DROPS) || effects.has(JewelEffect.MAGNETIC);
+    }
+
+    /**
+     * Give a stack to the player, buffering whatever doesn't fit. The stack is consumed.
+     * @return false if the player can't receive items (not a server player, dead or gone)
+     */
+    public static boolean deliver(Player player, ItemStack stack) {
+        if (!(player instanceof ServerPlayer serverPlayer) || !serverPlayer.isAlive() || serverPlayer.hasDisconnected()) {
+            return false;
+        }
+
+        serverPlayer.getInventory().add(stack);
+        if (stack.isEmpty()) {
+            return true;
+        }
+
+        Overflow overflow = overflows.get(serverPlayer.getUUID());
+        if (overflow == null) {
+            overflow = new Overflow(serverPlayer);
+            overflows.put(serverPlayer.getUUID(), overflow);
+        } else if (overflow.player != serverPlayer) {
+            // Respawned or changed dimension since the last flush: the buffered stacks follow the new player
+            overflow.player = serverPlayer;
+        }
+        overflow.add(stack.copy());
+        stack.setCount(0);
+
+        if (overflow.stacks.size() > ModConfig.getDeliveryOverflowStacks()) {
+            flush(overflow);
+            overflows.remove(serverPlayer.getUUID());
+        }
+        return true;
+    }
+
+    /**
+     * Retry the inventory, then drop what is left at the player. A dead player's inventory would be
+     * thrown away on respawn, so everything is dropped instead.
+     */
+    private static void flush(Overflow overflow) {
+        ServerPlayer current = overflow.player.server.getPlayerList().getPlayer(overflow.player.getUUID());
+        if (current != null) {
+            overflow.player = current; // Follow a respawn or dimension change
+        }
+        ServerPlayer player = overflow.player;
+        for (ItemStack stack : overflow.stacks) {
+            if (player.isAlive()) {
+                player.getInventory().add(stack);
+            }
+            if (!stack.isEmpty()) {
+                ItemEntity entity = new ItemEntity(player.level(), player.getX(), player.getY(), player.getZ(), stack);
+                entity.setNoPickUpDelay();
+                player.level().addFreshEntity(entity);
+            }
+        }
+        overflow.stacks.clear();
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || overflows.isEmpty() || ++tickCounter % FLUSH_INTERVAL != 0) {
+            return;
+        }
+        for (Overflow overflow : overflows.values()) {
+            flush(overflow);
+        }
+        overflows.clear();
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        Overflow overflow = overflows.remove(event.getEntity().getUUID());
+        if (overflow != null) {
+            flush(overflow);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jewelcharms.effect;
+
+import com.jewelcharms.JewelCharms;
+import com.jewelcharms.util.SectionSnapshot;
+import net.minecraft.Util;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Runs the search part of multi-block effects off the server thread.
+ *
+ * The caller captures a {@link SectionSnapshot} on the server thread; the planner function then works on
+ * that snapshot on the shared background worker pool, and the result is handed back to the server thread
+ * on a later tick. Appliers must treat the plan as a hint and re-validate blocks against the live level,
+ * since the world can change while planning runs.
+ */
+public class EffectPlanner {
+
+    public static <R> void plan(ServerLevel level, ServerPlayer player, SectionSnapshot snapshot,
+                                Function<SectionSnapshot, R> planner, BiConsumer<ServerLevel, R> apply) {
+        CompletableFuture.supplyAsync(() -> planner.apply(snapshot), Util.backgroundExecutor())
+                .whenCompleteAsync((result, error) -> {
+                    if (error != null) {
+                        JewelCharms.LOGGER.error("Failed to plan jewel effect for {}", player.getName().getString(), error);
+                        return;
+                    }
+                    // Skip plans that no longer make sense to apply
+                    if (player.hasDisconnected() || player.level() != level) {
+                        return;
+                    }
+                    apply.accept(level, result);
+                }, level.getServer());
+    }
+}
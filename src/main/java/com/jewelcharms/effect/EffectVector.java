@@ -0,0 +1,192 @@
+package com.jewelcharms.effect;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Compact set of jewel effects and their levels.
+ * Levels live in an int[] indexed by {@link JewelEffect#ordinal()} and a long bitmask records which
+ * effects are present, so lookups are an array read and nothing is boxed.
+ *
+ * Vectors are mutable while being built and can then be frozen, after which they are safe to share.
+ */
+public final class EffectVector {
+    private static final JewelEffect[] EFFECTS = JewelEffect.values();
+    public static final int SIZE = EFFECTS.length;
+
+    static {
+        if (SIZE > Long.SIZE) {
+            throw new IllegalStateException("EffectVector presence mask only supports " + Long.SIZE + " effects");
+        }
+    }
+
+    /** Effects that take part when the jewel sits on a weapon */
+    public static final long WEAPON_MASK = buildMask(true);
+    /** Effects that take part when the jewel sits on a tool */
+    public static final long TOOL_MASK = buildMask(false);
+
+    public static final EffectVector EMPTY = new EffectVector().freeze();
+
+    private final int[] levels;
+    private long mask;
+    private boolean frozen;
+
+    public EffectVector() {
+        this.levels = new int[SIZE];
+    }
+
+    public EffectVector(EffectVector other) {
+        this.levels = other.levels.clone();
+        this.mask = other.mask;
+    }
+
+    private static long buildMask(boolean weapon) {
+        long result = 0;
+        for (JewelEffect effect : EFFECTS) {
+            if (weapon ? effect.isApplicableToWeapon() : effect.isApplicableToTool()) {
+                result |= bit(effect);
+            }
+        }
+        return result;
+    }
+
+    public static long bit(JewelEffect effect) {
+        return 1L << effect.ordinal();
+    }
+
+    public static JewelEffect effectAt(int ordinal) {
+        return EFFECTS[ordinal];
+    }
+
+    // ========== READS ==========
+
+    public int get(JewelEffect effect) {
+        return levels[effect.ordinal()];
+    }
+
+    public boolean has(JewelEffect effect) {
+        return (mask & bit(effect)) != 0;
+    }
+
+    /**
+     * Bitmask of present effects, one bit per {@link JewelEffect#ordinal()}
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    /**
+     * Number of distinct effects present
+     */
+    public int count() {
+        return Long.bitCount(mask);
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Visit every present effect in ordinal order
+     */
+    public void forEach(ObjIntConsumer<JewelEffect> action) {
+        for (long m = mask; m != 0; m &= m - 1) {
+            int ordinal = Long.numberOfTrailingZeros(m);
+            action.accept(EFFECTS[ordinal], levels[ordinal]);
+        }
+    }
+
+    // ========== WRITES ==========
+
+    /**
+     * Set an effect's level. A level of zero removes the effect.
+     */
+    public EffectVector set(JewelEffect effect, int level) {
+        checkMutable();
+        int ordinal = effect.ordinal();
+        levels[ordinal] = level;
+        if (level != 0) {
+            mask |= 1L << ordinal;
+        } else {
+            mask &= ~(1L << ordinal);
+        }
+        return this;
+    }
+
+    public EffectVector add(JewelEffect effect, int level) {
+        return set(effect, levels[effect.ordinal()] + level);
+    }
+
+    /**
+     * Add every effect of another vector into this one
+     */
+    public EffectVector merge(EffectVector other) {
+        return merge(other, -1L);
+    }
+
+    /**
+     * Add the effects of another vector whose bit is set in {@code allowMask}
+     */
+    public EffectVector merge(EffectVector other, long allowMask) {
+        checkMutable();
+        for (long m = other.mask & allowMask; m != 0; m &= m - 1) {
+            int ordinal = Long.numberOfTrailingZeros(m);
+            levels[ordinal] += other.levels[ordinal];
+            if (levels[ordinal] != 0) {
+                mask |= 1L << ordinal;
+            } else {
+                mask &= ~(1L << ordinal);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Make this vector read-only. Returns itself for chaining.
+     */
+    public EffectVector freeze() {
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Mutable copy of this vector
+     */
+    public EffectVector copy() {
+        return new EffectVector(this);
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("EffectVector is frozen");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EffectVector other)) return false;
+        return mask == other.mask && Arrays.equals(levels, other.levels);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(mask) + Arrays.hashCode(levels);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((effect, level) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(effect.getId()).append('=').append(level);
+        });
+        return builder.append('}').toString();
+    }
+}
@@ -1,167 +1,471 @@
 package com.jewelcharms.effect;
 
+import com.jewelcharms.JewelCharms;
+import com.jewelcharms.capability.HeldJewelProfile;
+import com.jewelcharms.network.GravityTetherAttachPacket;
+import com.jewelcharms.network.GravityTetherDetachPacket;
+import com.jewelcharms.network.ModNetwork;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.entity.living.LivingDeathEvent;
+import net.minecraftforge.event.entity.living.LivingDropsEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
 
-import java.util.*;
+import java.util.Arrays;
 
 /**
  * Tracks orbiting items for Gravity Tether effect
  * Items orbit the player instead of falling, can be collected with a key press
+ *
+ * The orbit itself is only drawn on clients. On the server a tethered item is frozen in place (no gravity,
+ * no motion, no pickup), so it produces no movement packets; clients get one attach packet with each item's
+ * orbit parameters and animate it from the game time. Afterwards only detach/collect events are sent, plus
+ * an occasional relocation when the player has moved far enough away that the item could drop out of
+ * tracking range.
+ *
+ * Exactly the drops of a kill are captured, from {@link LivingDropsEvent}. Orbit state lives per level in
+ * parallel arrays keyed by entity id - no entity references are held - and is expired on the level tick and
+ * purged when the player logs out, dies or changes dimension, or when the item leaves the level. Captured
+ * items get an extended lifetime so the orbit expires before they would despawn, and carry a marker in
+ * their saved data so an item saved while frozen is thawed when it loads.
  */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class GravityTetherTracker {
 
-    private static class OrbitingItem {
-        ItemEntity entity;
-        double angle;
-        double radius;
-        double height;
-        long startTime;
+    /**
+     * Orbiting items of one level, stored as parallel arrays; removal swaps the last entry in
+     */
+    private static final class LevelOrbits {
+        final Int2IntOpenHashMap indexById = new Int2IntOpenHashMap();
+        int size;
+        int[] entityIds = new int[16];
+        int[] ownerIds = new int[16];
+        float[] phases = new float[16];
+        float[] radii = new float[16];
+        float[] heights = new float[16];
+        long[] startTicks = new long[16];
+
+        LevelOrbits() {
+            indexById.defaultReturnValue(-1);
+        }
+
+        void add(int entityId, int ownerId, float phase, float radius, float height, long startTick) {
+            if (size == entityIds.length) {
+                int capacity = size * 2;
+                entityIds = Arrays.copyOf(entityIds, capacity);
+                ownerIds = Arrays.copyOf(ownerIds, capacity);
+                phases = Arrays.copyOf(phases, capacity);
+                radii = Arrays.copyOf(radii, capacity);
+                heights = Arrays.copyOf(heights, capacity);
+                startTicks = Arrays.copyOf(startTicks, capacity);
+            }
+            entityIds[size] = entityId;
+            ownerIds[size] = ownerId;
+            phases[size] = phase;
+            radii[size] = radius;
+            heights[size] = height;
+            startTicks[size] = startTick;
+            indexById.put(entityId, size);
+            size++;
+        }
 
-        OrbitingItem(ItemEntity entity, double angle, double radius, double height) {
-            this.entity = entity;
-            this.angle = angle;
-            this.radius = radius;
-            this.height = height;
-            this.startTime = System.currentTimeMillis();
+        void remove(int index) {
+            indexById.remove(entityIds[index]);
+            int last = --size;
+            if (index != last) {
+                entityIds[index] = entityIds[last];
+                ownerIds[index] = ownerIds[last];
+                phases[index] = phases[last];
+                radii[index] = radii[last];
+                heights[index] = heights[last];
+                startTicks[index] = startTicks[last];
+                indexById.put(entityIds[index], index);
+            }
+        }
+
+        int countOwnedBy(int ownerId) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (ownerIds[i] == ownerId) {
+                    count++;
+                }
+            }
+            return count;
         }
     }
 
-    private static final Map<UUID, List<OrbitingItem>> playerOrbitingItems = new HashMap<>();
-    private static final double ORBIT_SPEED = 0.15; // Radians per tick - INCREASED for faster spinning
+    private static final Reference2ObjectMap<ServerLevel, LevelOrbits> orbitsByLevel = new Reference2ObjectOpenHashMap<>();
+    public static final float ORBIT_SPEED = 0.15f; // Radians per tick - INCREASED for faster spinning
     private static final double BASE_RADIUS = 2.0; // Base orbit radius
     private static final int MAX_ORBITING_ITEMS = 64; // Maximum items per player
+    private static final long MAX_ORBIT_TICKS = 20 * 60 * 5; // Items are released after 5 minutes
+    /** Marks a frozen item in its saved data, so one saved mid-orbit can be thawed when it loads again */
+    private static final String TETHERED_TAG = "JewelCharmsTethered";
+    private static final int CHECK_INTERVAL = 20;
+    /** Frozen items further than this from their player are moved back to it */
+    private static final double RELOCATE_DISTANCE_SQR = 16 * 16;
 
     /**
-     * Register an item to orbit around a player
+     * Capture the drops of a kill made with a Gravity Tether weapon
+     * Runs late so other mods have already changed the drop list
      */
-    public static void addOrbitingItem(Player player, ItemEntity item) {
-        UUID playerId = player.getUUID();
-        List<OrbitingItem> items = playerOrbitingItems.computeIfAbsent(playerId, k -> new ArrayList<>());
-
-        // Don't add if at max capacity
-        if (items.size() >= MAX_ORBITING_ITEMS) {
+    @SubscribeEvent(priority = EventPriority.LOW)
+    public static void onLivingDrops(LivingDropsEvent event) {
+        if (!(event.getSource().getEntity() instanceof ServerPlayer player) || event.getDrops().isEmpty()
+                || player.level() != event.getEntity().level()
+                || !HeldJewelProfile.get(player).getEffects().has(JewelEffect.GRAVITY_TETHER)) {
             return;
         }
 
-        // Calculate starting angle based on current item count (evenly distribute)
-        double angle = (2 * Math.PI * items.size()) / Math.max(1, items.size() + 1);
-        double radius = BASE_RADIUS + (items.size() / 10.0); // Increase radius with more items
-        double height = 0.5 + (items.size() % 3) * 0.5; // Vary height in layers
+        int captured = addOrbitingItems(player, event.getDrops());
+        if (captured > 0) {
+            player.displayClientMessage(
+                Component.literal("Gravity Tether: " + captured + " items captured")
+                    .withStyle(ChatFormatting.AQUA),
+                true
+            );
+        }
+    }
+
+    /**
+     * Register items to orbit around a player and tell the clients about them
+     * @return how many were added
+     */
+    public static int addOrbitingItems(ServerPlayer player, Iterable<ItemEntity> drops) {
+        LevelOrbits orbits = orbitsByLevel.computeIfAbsent(player.serverLevel(), k -> new LevelOrbits());
+        int ownerId = player.getId();
+        int count = orbits.countOwnedBy(ownerId);
+        long now = player.level().getGameTime();
+        int firstAdded = orbits.size;
+
+        for (ItemEntity item : drops) {
+            // Don't add if at max capacity
+            if (count >= MAX_ORBITING_ITEMS) {
+                break;
+            }
+            if (orbits.indexById.containsKey(item.getId())) {
+                continue;
+            }
+
+            // Calculate starting angle based on current item count (evenly distribute)
+            float phase = (float) ((2 * Math.PI * count) / Math.max(1, count + 1));
+            float radius = (float) (BASE_RADIUS + (count / 10.0)); // Increase radius with more items
+            float height = 0.5f + (count % 3) * 0.5f; // Vary height in layers
+
+            // Freeze the item: no gravity, no motion and no pickup (which also stops it merging)
+            item.setNoGravity(true);
+            item.setDeltaMovement(Vec3.ZERO);
+            item.setNeverPickUp();
+            // Restart the despawn timer with twice the usual lifetime, so it outlasts the orbit
+            item.setExtendedLifetime();
+            item.getPersistentData().putBoolean(TETHERED_TAG, true);
 
-        items.add(new OrbitingItem(item, angle, radius, height));
+            orbits.add(item.getId(), ownerId, phase, radius, height, now);
+            count++;
+        }
 
-        // Mark the item as not pickupable temporarily to prevent auto-pickup
-        item.setPickUpDelay(10);
-        // Disable gravity for the item
-        item.setNoGravity(true);
+        int added = orbits.size - firstAdded;
+        if (added > 0) {
+            ModNetwork.sendToTrackingAndSelf(createAttachPacket(player, orbits, firstAdded, orbits.size), player);
+        }
+        return added;
+    }
+
+    private static GravityTetherAttachPacket createAttachPacket(Player player, LevelOrbits orbits, int from, int to) {
+        return new GravityTetherAttachPacket(player.getId(),
+                Arrays.copyOfRange(orbits.entityIds, from, to),
+                Arrays.copyOfRange(orbits.phases, from, to),
+                Arrays.copyOfRange(orbits.radii, from, to),
+                Arrays.copyOfRange(orbits.heights, from, to),
+                Arrays.copyOfRange(orbits.startTicks, from, to));
     }
 
     /**
-     * Update orbiting items for a player
-     * Called every tick
+     * Housekeeping for a level's orbiting items, once a second
      */
-    public static void updateOrbitingItems(Player player) {
-        UUID playerId = player.getUUID();
-        List<OrbitingItem> items = playerOrbitingItems.get(playerId);
-
-        if (items == null || items.isEmpty()) {
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel level)) {
+            return;
+        }
+        LevelOrbits orbits = orbitsByLevel.get(level);
+        if (orbits == null || orbits.size == 0 || level.getGameTime() % CHECK_INTERVAL != 0) {
             return;
         }
 
-        Vec3 playerPos = player.position();
-        Iterator<OrbitingItem> iterator = items.iterator();
-
-        while (iterator.hasNext()) {
-            OrbitingItem orbitItem = iterator.next();
+        long now = level.getGameTime();
+        Int2ObjectMap<IntArrayList> detachedByOwner = null;
+        // Walk backwards so a swap-remove only moves in entries that were already visited
+        for (int i = orbits.size - 1; i >= 0; i--) {
+            Entity entity = level.getEntity(orbits.entityIds[i]);
+            Entity owner = level.getEntity(orbits.ownerIds[i]);
+            boolean gone = !(entity instanceof ItemEntity) || !entity.isAlive();
 
-            // Check if entity is still valid
-            if (orbitItem.entity.isRemoved() || !orbitItem.entity.isAlive()) {
-                iterator.remove();
+            // Picked up, despawned or destroyed; released after 5 minutes, or when the player is no longer in this level
+            if (gone || now - orbits.startTicks[i] > MAX_ORBIT_TICKS || !(owner instanceof ServerPlayer player)) {
+                if (!gone) {
+                    release((ItemEntity) entity);
+                }
+                // Clients that never received the item entity still hold its orbit, so always tell them
+                if (owner instanceof ServerPlayer) {
+                    if (detachedByOwner == null) {
+                        detachedByOwner = new Int2ObjectOpenHashMap<>();
+                    }
+                    detachedByOwner.computeIfAbsent(orbits.ownerIds[i], k -> new IntArrayList()).add(orbits.entityIds[i]);
+                }
+                orbits.remove(i);
                 continue;
             }
+            ItemEntity item = (ItemEntity) entity;
 
-            // Update angle
-            orbitItem.angle += ORBIT_SPEED;
-            if (orbitItem.angle > 2 * Math.PI) {
-                orbitItem.angle -= 2 * Math.PI;
+            // Keep the frozen item near the player so it stays loaded and tracked
+            if (item.distanceToSqr(player) > RELOCATE_DISTANCE_SQR) {
+                item.setPos(player.getX(), player.getY(), player.getZ());
             }
+        }
 
-            // Calculate new position - items stay at fixed height relative to player
-            double x = playerPos.x + Math.cos(orbitItem.angle) * orbitItem.radius;
-            double y = playerPos.y + orbitItem.height + player.getEyeHeight() / 2;
-            double z = playerPos.z + Math.sin(orbitItem.angle) * orbitItem.radius;
-
-            // Set position and velocity - ZERO velocity to remove gravity effect
-            orbitItem.entity.setPos(x, y, z);
-            orbitItem.entity.setDeltaMovement(Vec3.ZERO); // No gravity or motion
-            orbitItem.entity.setOnGround(false);
-            orbitItem.entity.setNoGravity(true); // Disable gravity completely
-
-            // Reset pickup delay
-            orbitItem.entity.setPickUpDelay(10);
-
-            // Optional: Remove items after 5 minutes
-            if (System.currentTimeMillis() - orbitItem.startTime > 300000) {
-                iterator.remove();
+        if (detachedByOwner != null) {
+            for (Int2ObjectMap.Entry<IntArrayList> entry : detachedByOwner.int2ObjectEntrySet()) {
+                if (level.getEntity(entry.getIntKey()) instanceof ServerPlayer player) {
+                    sendDetach(player, entry.getValue().toIntArray(), false);
+                }
             }
         }
     }
 
+    private static void release(ItemEntity entity) {
+        entity.setNoGravity(false);
+        entity.setPickUpDelay(10);
+        entity.getPersistentData().remove(TETHERED_TAG);
+    }
+
+    private static void sendDetach(ServerPlayer player, int[] entityIds, boolean collected) {
+        ModNetwork.sendToTrackingAndSelf(new GravityTetherDetachPacket(player.getId(), entityIds, collected), player);
+    }
+
     /**
      * Collect all orbiting items for a player
      * Returns true if any items were collected
      */
     public static boolean collectAll(Player player) {
-        UUID playerId = player.getUUID();
-        List<OrbitingItem> items = playerOrbitingItems.get(playerId);
-
-        if (items == null || items.isEmpty()) {
+        if (!(player instanceof ServerPlayer serverPlayer)) {
+            return false;
+        }
+        LevelOrbits orbits = orbitsByLevel.get(serverPlayer.serverLevel());
+        if (orbits == null) {
             return false;
         }
 
-        boolean collected = false;
-        Iterator<OrbitingItem> iterator = items.iterator();
-
-        while (iterator.hasNext()) {
-            OrbitingItem orbitItem = iterator.next();
-
-            if (orbitItem.entity.isAlive() && !orbitItem.entity.isRemoved()) {
-                // Reset pickup delay to allow immediate pickup
-                orbitItem.entity.setPickUpDelay(0);
-                // Restore gravity so item falls naturally
-                orbitItem.entity.setNoGravity(false);
-                // Move to player position
-                orbitItem.entity.setPos(player.getX(), player.getY(), player.getZ());
-                collected = true;
+        IntArrayList collected = new IntArrayList();
+        int ownerId = player.getId();
+        for (int i = orbits.size - 1; i >= 0; i--) {
+            if (orbits.ownerIds[i] != ownerId) {
+                continue;
             }
-
-            iterator.remove();
+            if (serverPlayer.serverLevel().getEntity(orbits.entityIds[i]) instanceof ItemEntity item && item.isAlive()) {
+                // Allow immediate pickup, restore gravity and move to player position
+                release(item);
+                item.setPickUpDelay(0);
+                item.setPos(player.getX(), player.getY(), player.getZ());
+                collected.add(orbits.entityIds[i]);
+            }
+            orbits.remove(i);
         }
 
-        return collected;
+        if (collected.isEmpty()) {
+            return false;
+        }
+        sendDetach(serverPlayer, collected.toIntArray(), true);
+        return true;
     }
 
     /**
      * Get orbiting item count for a player
      */
-    public static int getOrbitingCount(UUID playerId) {
-        List<OrbitingItem> items = playerOrbitingItems.get(playerId);
-        return items != null ? items.size() : 0;
+    public static int getOrbitingCount(ServerPlayer player) {
+        LevelOrbits orbits = orbitsByLevel.get(player.serverLevel());
+        return orbits != null ? orbits.countOwnedBy(player.getId()) : 0;
     }
 
     /**
-     * Clear all orbiting items for a player (e.g., on death)
+     * Release and forget all orbiting items a player has in a level, and tell clients to drop the orbits
      */
-    public static void clearPlayer(UUID playerId) {
-        playerOrbitingItems.remove(playerId);
+    private static void releasePlayer(ServerPlayer player, ServerLevel level) {
+        LevelOrbits orbits = orbitsByLevel.get(level);
+        if (orbits == null) {
+            return;
+        }
+        IntArrayList released = new IntArrayList();
+        int ownerId = player.getId();
+        for (int i = orbits.size - 1; i >= 0; i--) {
+            if (orbits.ownerIds[i] == ownerId) {
+                if (level.getEntity(orbits.entityIds[i]) instanceof ItemEntity item) {
+                    release(item);
+                }
+                released.add(orbits.entityIds[i]);
+                orbits.remove(i);
+            }
+        }
+        // A dead player keeps its entity id through respawn, so clients would otherwise keep the orbits around it
+        if (!released.isEmpty()) {
+            sendDetach(player, released.toIntArray(), false);
+        }
     }
 
     /**
      * Clear all orbiting items (e.g., on server shutdown)
      */
     public static void clearAll() {
-        playerOrbitingItems.clear();
+        orbitsByLevel.clear();
+    }
+
+    /**
+     * A client starting to see a player needs the orbits that were attached before it got there
+     */
+    @SubscribeEvent
+    public static void onStartTracking(PlayerEvent.StartTracking event) {
+        if (!(event.getEntity() instanceof ServerPlayer watcher)) {
+            return;
+        }
+        if (event.getTarget() instanceof ItemEntity item) {
+            startTrackingItem(item, watcher);
+            return;
+        }
+        if (!(event.getTarget() instanceof ServerPlayer tethered)) {
+            return;
+        }
+        LevelOrbits orbits = orbitsByLevel.get(tethered.serverLevel());
+        if (orbits == null) {
+            return;
+        }
+
+        IntArrayList indices = new IntArrayList();
+        for (int i = 0; i < orbits.size; i++) {
+            if (orbits.ownerIds[i] == tethered.getId()) {
+                indices.add(i);
+            }
+        }
+        if (indices.isEmpty()) {
+            return;
+        }
+
+        int[] entityIds = new int[indices.size()];
+        float[] phases = new float[indices.size()];
+        float[] radii = new float[indices.size()];
+        float[] heights = new float[indices.size()];
+        long[] startTicks = new long[indices.size()];
+        for (int j = 0; j < indices.size(); j++) {
+            int i = indices.getInt(j);
+            entityIds[j] = orbits.entityIds[i];
+            phases[j] = orbits.phases[i];
+            radii[j] = orbits.radii[i];
+            heights[j] = orbits.heights[i];
+            startTicks[j] = orbits.startTicks[i];
+        }
+        ModNetwork.sendToPlayer(new GravityTetherAttachPacket(tethered.getId(), entityIds, phases, radii, heights, startTicks), watcher);
+    }
+
+    /**
+     * An item that comes into a client's range after its attach was sent: send that client its orbit
+     */
+    private static void startTrackingItem(ItemEntity item, ServerPlayer watcher) {
+        LevelOrbits orbits = orbitsByLevel.get(watcher.serverLevel());
+        int index = orbits != null ? orbits.indexById.get(item.getId()) : -1;
+        if (index >= 0) {
+            ModNetwork.sendToPlayer(new GravityTetherAttachPacket(orbits.ownerIds[index],
+                    new int[]{orbits.entityIds[index]}, new float[]{orbits.phases[index]}, new float[]{orbits.radii[index]},
+                    new float[]{orbits.heights[index]}, new long[]{orbits.startTicks[index]}), watcher);
+        }
+    }
+
+    // ========== PURGING ==========
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            releasePlayer(player, player.serverLevel());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerDeath(LivingDeathEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            releasePlayer(player, player.serverLevel());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            ServerLevel from = player.server.getLevel(event.getFrom());
+            if (from != null) {
+                releasePlayer(player, from);
+            }
+        }
+    }
+
+    /**
+     * Items removed while orbiting: picked up, despawned, or unloaded with their chunk. An unloaded item was
+     * already saved frozen by then, which {@link #onEntityJoinLevel} undoes when it loads again.
+     */
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (!(event.getEntity() instanceof ItemEntity item) || !(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        LevelOrbits orbits = orbitsByLevel.get(level);
+        if (orbits == null) {
+            return;
+        }
+        int index = orbits.indexById.get(item.getId());
+        if (index >= 0) {
+            release(item);
+            if (level.getEntity(orbits.ownerIds[index]) instanceof ServerPlayer player) {
+                sendDetach(player, new int[]{item.getId()}, false);
+            }
+            orbits.remove(index);
+        }
+    }
+
+    /**
+     * Thaw an item that was saved while it orbited (chunk unloaded, server stopped) and is no longer tracked
+     */
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (!(event.getEntity() instanceof ItemEntity item) || !(event.getLevel() instanceof ServerLevel level)
+                || !item.getPersistentData().getBoolean(TETHERED_TAG)) {
+            return;
+        }
+        LevelOrbits orbits = orbitsByLevel.get(level);
+        if (orbits == null || !orbits.indexById.containsKey(item.getId())) {
+            release(item);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            orbitsByLevel.remove(level);
+        }
     }
 }
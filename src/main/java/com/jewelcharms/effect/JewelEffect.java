@@ -3,6 +3,10 @@ package com.jewelcharms.effect;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * All jewel effects. Tool NBT (schema v2) and EffectVector refer to effects by ordinal,
+ * so new effects must be appended at the end and existing ones never reordered or removed.
+ */
 public enum JewelEffect {
     // Tool-Focused Effects (Mining, Utility)
     MINING_SPEED("mining_speed", "Mining Speed", EffectCategory.TOOL),
@@ -0,0 +1,86 @@
+package com.jewelcharms.effect.handler;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Secondary hits of one attack (e.g. Sweeping Edge), collected while the hurt handlers run and applied
+ * together once the primary hit is resolved.
+ *
+ * The hits are dealt as the attacking player, so each one fires LivingHurtEvent again; while they are
+ * being applied {@link #isApplying()} is true and jewel processing skips them, so one swing can't cascade
+ * through the whole handler chain for every mob in range.
+ */
+public class AreaAttack {
+    /** Nesting depth of {@link #apply()}; hurt events only fire on the server thread */
+    private static int applying;
+
+    private final Player attacker;
+    private final int maxTargets;
+    private final List<LivingEntity> targets = new ArrayList<>();
+    private final FloatArrayList damages = new FloatArrayList();
+
+    public AreaAttack(Player attacker, int maxTargets) {
+        this.attacker = attacker;
+        this.maxTargets = maxTargets;
+    }
+
+    public static boolean isApplying() {
+        return applying > 0;
+    }
+
+    /**
+     * Queue a secondary hit; a target already queued keeps the larger damage
+     * @return false once the target cap is reached
+     */
+    public boolean add(LivingEntity target, float damage) {
+        int index = targets.indexOf(target);
+        if (index >= 0) {
+            damages.set(index, Math.max(damages.getFloat(index), damage));
+            return true;
+        }
+        if (isFull()) {
+            return false;
+        }
+        targets.add(target);
+        damages.add(damage);
+        return true;
+    }
+
+    public boolean isFull() {
+        return targets.size() >= maxTargets;
+    }
+
+    public boolean isEmpty() {
+        return targets.isEmpty();
+    }
+
+    /**
+     * Deal every queued hit in one pass, without jewel processing of the nested hurt events
+     */
+    public void apply() {
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        DamageSource source = attacker.damageSources().playerAttack(attacker);
+        applying++;
+        try {
+            for (int i = 0; i < targets.size(); i++) {
+                LivingEntity target = targets.get(i);
+                if (target.isAlive()) {
+                    target.hurt(source, damages.getFloat(i));
+                }
+            }
+        } finally {
+            applying--;
+            targets.clear();
+            damages.clear();
+        }
+    }
+}
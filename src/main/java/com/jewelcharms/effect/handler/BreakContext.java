@@ -0,0 +1,54 @@
+package com.jewelcharms.effect.handler;
+
+import com.jewelcharms.effect.DropCollector;
+import com.jewelcharms.effect.EffectVector;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.level.BlockEvent;
+
+public class BreakContext extends EffectContext {
+    private final BlockEvent.BreakEvent event;
+    private final Level level;
+    private final DropCollector drops;
+
+    public BreakContext(BlockEvent.BreakEvent event, Level level, Player player, ItemStack tool, EffectVector effects) {
+        super(player, tool, effects);
+        this.event = event;
+        this.level = level;
+        this.drops = new DropCollector(level, event.getPos(), player, effects);
+    }
+
+    public BlockEvent.BreakEvent getEvent() {
+        return event;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public BlockPos getPos() {
+        return event.getPos();
+    }
+
+    public BlockState getState() {
+        return event.getState();
+    }
+
+    /**
+     * Extra drops produced by the handlers, delivered together once dispatch is done
+     */
+    public DropCollector getDrops() {
+        return drops;
+    }
+
+    /**
+     * Cancel the vanilla break (the handler takes care of the block) and skip the remaining handlers
+     */
+    public void cancelBreak() {
+        event.setCanceled(true);
+        stop();
+    }
+}
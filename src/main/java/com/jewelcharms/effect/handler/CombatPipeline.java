@@ -0,0 +1,227 @@
+package com.jewelcharms.effect.handler;
+
+import com.jewelcharms.effect.EffectVector;
+import com.jewelcharms.effect.JewelEffect;
+import com.jewelcharms.effect.WeatherSiphonTracker;
+import com.jewelcharms.util.BiomeClassifier;
+import com.jewelcharms.util.JewelEffectProfile;
+import com.jewelcharms.util.ToolJewelData;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.SwordItem;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The built-in melee effects of one {@link JewelEffectProfile}, compiled into an ordered array of stages.
+ *
+ * Each stage takes the running damage and returns the new value; multiplicative, additive and on-hit
+ * stages keep the order the effects always had. Everything that only depends on the effect levels (moon
+ * phase factors, biome multipliers, crit chance, flat bonuses) is worked out at compile time, so a hit
+ * just walks the array. Chance rolls use the level's {@link net.minecraft.util.RandomSource}.
+ */
+public final class CombatPipeline {
+    public static final CombatPipeline EMPTY = new CombatPipeline(new Stage[0]);
+
+    @FunctionalInterface
+    public interface Stage {
+        float apply(HurtContext hit, float damage);
+    }
+
+    private final Stage[] stages;
+
+    private CombatPipeline(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Run every stage and return the final damage
+     */
+    public float apply(HurtContext hit) {
+        float damage = hit.getDamage();
+        for (Stage stage : stages) {
+            damage = stage.apply(hit, damage);
+        }
+        return damage;
+    }
+
+    public boolean isEmpty() {
+        return stages.length == 0;
+    }
+
+    public static CombatPipeline compile(JewelEffectProfile profile) {
+        EffectVector effects = profile.getEffects();
+        List<Stage> stages = new ArrayList<>();
+
+        if (effects.has(JewelEffect.MOON_PHASE_SENSITIVITY)) {
+            float[] byPhase = moonPhaseMultipliers(effects.get(JewelEffect.MOON_PHASE_SENSITIVITY));
+            stages.add((hit, damage) -> hit.getPlayer().level().isClientSide
+                    ? damage : damage * byPhase[hit.getPlayer().level().getMoonPhase()]);
+        }
+
+        if (effects.has(JewelEffect.BIOME_RESONANCE)) {
+            stages.add(biomeResonance(effects.get(JewelEffect.BIOME_RESONANCE)));
+        }
+
+        if (effects.has(JewelEffect.WEATHER_SIPHON)) {
+            stages.add((hit, damage) -> damage * WeatherSiphonTracker.getDamageMultiplier(hit.getStack()));
+        }
+
+        if (effects.has(JewelEffect.DAMAGE)) {
+            float bonus = effects.get(JewelEffect.DAMAGE) * 1.25f; // +1.25 damage per level
+            stages.add((hit, damage) -> damage + bonus);
+        }
+
+        if (effects.has(JewelEffect.CRITICAL_CHANCE)) {
+            float critChance = effects.get(JewelEffect.CRITICAL_CHANCE) * 0.1f; // 10% per level
+            stages.add((hit, damage) -> hit.getPlayer().level().getRandom().nextFloat() < critChance
+                    ? damage * 1.5f : damage); // 50% bonus damage
+        }
+
+        if (effects.has(JewelEffect.EXECUTE)) {
+            float bonus = effects.get(JewelEffect.EXECUTE) * 3.0f;
+            stages.add((hit, damage) -> {
+                LivingEntity target = hit.getTarget();
+                return target.getHealth() < target.getMaxHealth() * 0.3f ? damage + bonus : damage; // Below 30% health
+            });
+        }
+
+        if (effects.has(JewelEffect.LIFESTEAL)) {
+            float fraction = effects.get(JewelEffect.LIFESTEAL) * 0.1f; // 10% per level
+            stages.add((hit, damage) -> {
+                if (!hit.getPlayer().level().isClientSide) {
+                    hit.getPlayer().heal(damage * fraction);
+                }
+                return damage;
+            });
+        }
+
+        if (effects.has(JewelEffect.FIRE_ASPECT)) {
+            int seconds = effects.get(JewelEffect.FIRE_ASPECT) * 4; // 4 seconds per level
+            stages.add((hit, damage) -> {
+                hit.getTarget().setSecondsOnFire(seconds);
+                return damage;
+            });
+        }
+
+        if (effects.has(JewelEffect.KNOCKBACK)) {
+            float strength = effects.get(JewelEffect.KNOCKBACK) * 0.5f;
+            stages.add((hit, damage) -> {
+                Player player = hit.getPlayer();
+                LivingEntity target = hit.getTarget();
+                target.knockback(strength, player.getX() - target.getX(), player.getZ() - target.getZ());
+                return damage;
+            });
+        }
+
+        if (effects.has(JewelEffect.SWEEPING) && profile.getItem() instanceof SwordItem) {
+            stages.add(sweeping(effects.get(JewelEffect.SWEEPING)));
+        }
+
+        if (effects.has(JewelEffect.POISON)) {
+            int amplifier = effects.get(JewelEffect.POISON) - 1;
+            stages.add((hit, damage) -> {
+                hit.getTarget().addEffect(new MobEffectInstance(MobEffects.POISON, 100, amplifier));
+                return damage;
+            });
+        }
+
+        if (effects.has(JewelEffect.WEAKNESS)) {
+            int amplifier = effects.get(JewelEffect.WEAKNESS) - 1;
+            stages.add((hit, damage) -> {
+                hit.getTarget().addEffect(new MobEffectInstance(MobEffects.WEAKNESS, 100, amplifier));
+                return damage;
+            });
+        }
+
+        return stages.isEmpty() ? EMPTY : new CombatPipeline(stages.toArray(new Stage[0]));
+    }
+
+    // ========== STAGES ==========
+
+    /**
+     * Full moon (phase 0) = 2.0x, new moon (phase 4) = 0.5x, scaled by the jewel level and clamped
+     */
+    private static float[] moonPhaseMultipliers(int moonLevel) {
+        float[] multipliers = new float[8];
+        for (int phase = 0; phase < 8; phase++) {
+            float baseMultiplier = switch (phase) {
+                case 0 -> 2.0f;  // Full moon
+                case 1, 7 -> 1.5f; // Waning/Waxing Gibbous
+                case 2, 6 -> 1.2f; // Quarter
+                case 3, 5 -> 0.8f; // Crescent
+                case 4 -> 0.5f;  // New moon
+                default -> 1.0f;
+            };
+            float levelMultiplier = 1.0f + ((baseMultiplier - 1.0f) * moonLevel * 0.5f);
+            multipliers[phase] = Math.max(0.5f, Math.min(3.0f, levelMultiplier));
+        }
+        return multipliers;
+    }
+
+    private static Stage biomeResonance(int biomeLevel) {
+        float coldMultiplier = 1.0f + (biomeLevel * 0.15f); // +15% per level
+        float hotMultiplier = 1.0f + (biomeLevel * 0.2f); // +20% per level
+        float oceanMultiplier = 1.0f + (biomeLevel * 0.25f); // +25% per level
+        int fireSeconds = biomeLevel * 3;
+
+        return (hit, damage) -> {
+            if (!ToolJewelData.isWeapon(hit.getStack())) {
+                return damage;
+            }
+            Player player = hit.getPlayer();
+            Level level = player.level();
+            LivingEntity target = hit.getTarget();
+            byte biome = BiomeClassifier.classify(player, level, player.blockPosition());
+
+            if ((biome & BiomeClassifier.COLD) != 0) {
+                // Cold biomes: Ice damage, slowness
+                target.addEffect(new MobEffectInstance(MobEffects.MOVEMENT_SLOWDOWN, 100, biomeLevel - 1));
+                return damage * coldMultiplier;
+            } else if ((biome & BiomeClassifier.HOT) != 0) {
+                // Hot biomes: Fire damage
+                target.setSecondsOnFire(fireSeconds);
+                return damage * hotMultiplier;
+            } else if ((biome & BiomeClassifier.OCEAN) != 0
+                    && level.isRaining() && level.canSeeSky(target.blockPosition())) {
+                // Ocean biomes: Lightning effect (if raining)
+                return damage * oceanMultiplier;
+            }
+            return damage;
+        };
+    }
+
+    private static Stage sweeping(int sweepLevel) {
+        float sweepBonus = sweepLevel * 1.0f; // +1 damage per level
+        double sweepRadius = 1.0 + (sweepLevel * 0.5); // Increase radius with level
+
+        return (hit, damage) -> {
+            Player player = hit.getPlayer();
+            // Only a sweep attack: player on ground, not sprinting
+            if (!player.onGround() || player.isSprinting()) {
+                return damage;
+            }
+
+            LivingEntity target = hit.getTarget();
+            AABB sweepArea = target.getBoundingBox().inflate(sweepRadius, 0.25, sweepRadius);
+            List<LivingEntity> nearbyEntities = player.level().getEntitiesOfClass(LivingEntity.class, sweepArea,
+                    entity -> entity != target && entity != player && !entity.isAlliedTo(player));
+
+            // Nearest first, up to the target cap; the hits are dealt after this attack resolves
+            nearbyEntities.sort(Comparator.comparingDouble(target::distanceToSqr));
+            AreaAttack areaAttack = hit.getAreaAttack();
+            for (LivingEntity nearbyEntity : nearbyEntities) {
+                if (!areaAttack.add(nearbyEntity, sweepBonus)) {
+                    break;
+                }
+            }
+            return damage + sweepBonus;
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.jewelcharms.effect.handler;
+
+import com.jewelcharms.effect.EffectVector;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.entity.living.LivingDeathEvent;
+
+public class DeathContext extends EffectContext {
+    private final LivingDeathEvent event;
+
+    public DeathContext(LivingDeathEvent event, Player player, ItemStack weapon, EffectVector effects) {
+        super(player, weapon, effects);
+        this.event = event;
+    }
+
+    public LivingDeathEvent getEvent() {
+        return event;
+    }
+
+    public LivingEntity getTarget() {
+        return event.getEntity();
+    }
+}
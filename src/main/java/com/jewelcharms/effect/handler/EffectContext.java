@@ -0,0 +1,50 @@
+package com.jewelcharms.effect.handler;
+
+import com.jewelcharms.effect.EffectVector;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * State shared by the handlers of a single dispatch
+ */
+public abstract class EffectContext {
+    private final Player player;
+    private final ItemStack stack;
+    private final EffectVector effects;
+    private boolean stopped;
+
+    protected EffectContext(Player player, ItemStack stack, EffectVector effects) {
+        this.player = player;
+        this.stack = stack;
+        this.effects = effects;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * The jeweled item (main hand)
+     */
+    public ItemStack getStack() {
+        return stack;
+    }
+
+    /**
+     * All effects of the item, for handlers that depend on other effects
+     */
+    public EffectVector getEffects() {
+        return effects;
+    }
+
+    /**
+     * Skip every handler after the current one
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jewelcharms.effect.handler;
+
+/**
+ * Behaviour of one jewel effect in one {@link EffectPhase}.
+ * Only called when the effect is present, with its summed level.
+ */
+@FunctionalInterface
+public interface EffectHandler<C extends EffectContext> {
+    void apply(C context, int level);
+}
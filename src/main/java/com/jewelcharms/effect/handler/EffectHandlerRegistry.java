@@ -0,0 +1,98 @@
+package com.jewelcharms.effect.handler;
+
+import com.jewelcharms.effect.EffectVector;
+import com.jewelcharms.effect.JewelEffect;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of {@link EffectHandler}s per {@link EffectPhase}.
+ *
+ * Handlers are bound to one effect with an order (lower runs first; ties keep registration order).
+ * For each distinct effect mask a phase is dispatched with, the matching handlers are compiled once into
+ * an ordered array, so a dispatch only touches the handlers of effects the item actually has.
+ * Add-ons can register their own handlers during common setup; registering after dispatch has started
+ * is allowed but meant for setup time.
+ */
+public class EffectHandlerRegistry {
+
+    private static final class Binding {
+        final JewelEffect effect;
+        final int order;
+        final int sequence;
+        final EffectHandler<?> handler;
+
+        Binding(JewelEffect effect, int order, int sequence, EffectHandler<?> handler) {
+            this.effect = effect;
+            this.order = order;
+            this.sequence = sequence;
+            this.handler = handler;
+        }
+    }
+
+    private static final Comparator<Binding> ORDER = Comparator.<Binding>comparingInt(b -> b.order).thenComparingInt(b -> b.sequence);
+    private static final Binding[] NONE = new Binding[0];
+
+    private static final List<List<Binding>> BINDINGS = new ArrayList<>();
+    private static final List<Map<Long, Binding[]>> COMPILED = new ArrayList<>();
+    /** Per phase, the effects that have at least one handler */
+    private static final long[] PHASE_MASKS = new long[EffectPhase.COUNT];
+    private static int sequence;
+
+    static {
+        for (int i = 0; i < EffectPhase.COUNT; i++) {
+            BINDINGS.add(new CopyOnWriteArrayList<>());
+            COMPILED.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    public static synchronized <C extends EffectContext> void register(EffectPhase<C> phase, JewelEffect effect, int order, EffectHandler<C> handler) {
+        BINDINGS.get(phase.index).add(new Binding(effect, order, sequence++, handler));
+        PHASE_MASKS[phase.index] |= EffectVector.bit(effect);
+        COMPILED.get(phase.index).clear();
+    }
+
+    /**
+     * Whether any of the given effects has a handler in this phase
+     */
+    public static boolean handles(EffectPhase<?> phase, long effectMask) {
+        return (PHASE_MASKS[phase.index] & effectMask) != 0;
+    }
+
+    /**
+     * Run the handlers of every effect in the context, in order, until one stops the dispatch
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends EffectContext> void dispatch(EffectPhase<C> phase, C context) {
+        EffectVector effects = context.getEffects();
+        long mask = effects.getMask() & PHASE_MASKS[phase.index];
+        if (mask == 0) {
+            return;
+        }
+
+        for (Binding binding : compile(phase, mask)) {
+            if (context.isStopped()) {
+                break;
+            }
+            ((EffectHandler<C>) binding.handler).apply(context, effects.get(binding.effect));
+        }
+    }
+
+    private static Binding[] compile(EffectPhase<?> phase, long mask) {
+        return COMPILED.get(phase.index).computeIfAbsent(mask, m -> {
+            List<Binding> matching = new ArrayList<>();
+            for (Binding binding : BINDINGS.get(phase.index)) {
+                if ((m & EffectVector.bit(binding.effect)) != 0) {
+                    matching.add(binding);
+                }
+            }
+            matching.sort(ORDER);
+            return matching.isEmpty() ? NONE : matching.toArray(NONE);
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.jewelcharms.effect.handler;
+
+/**
+ * Event phases that jewel effect handlers can bind to.
+ * Each phase fixes the context type its handlers receive.
+ */
+public final class EffectPhase<C extends EffectContext> {
+    /** A jeweled tool broke a block (server only) */
+    public static final EffectPhase<BreakContext> BREAK = new EffectPhase<>("break", 0);
+    /** A player with a jeweled weapon hurt an entity */
+    public static final EffectPhase<HurtContext> HURT = new EffectPhase<>("hurt", 1);
+    /** A player with a jeweled weapon killed an entity */
+    public static final EffectPhase<DeathContext> DEATH = new EffectPhase<>("death", 2);
+    /** Every player tick, on both sides */
+    public static final EffectPhase<TickContext> TICK = new EffectPhase<>("tick", 3);
+    /** Once a second (every 20 player ticks), on both sides */
+    public static final EffectPhase<TickContext> PULSE = new EffectPhase<>("pulse", 4);
+    /** A player holding a jeweled item picked up an experience orb */
+    public static final EffectPhase<XpContext> XP = new EffectPhase<>("xp", 5);
+
+    static final int COUNT = 6;
+
+    private final String name;
+    final int index;
+
+    private EffectPhase(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
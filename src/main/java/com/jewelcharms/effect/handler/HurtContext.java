@@ -0,0 +1,54 @@
+package com.jewelcharms.effect.handler;
+
+import com.jewelcharms.config.ModConfig;
+import com.jewelcharms.effect.EffectVector;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+
+/**
+ * Handlers adjust {@link #getDamage()} in order; the final value is written back to the event.
+ * Hits on other entities go through {@link #getAreaAttack()} and are dealt after the primary hit.
+ */
+public class HurtContext extends EffectContext {
+    private final LivingHurtEvent event;
+    private float damage;
+    private AreaAttack areaAttack;
+
+    public HurtContext(LivingHurtEvent event, Player player, ItemStack weapon, EffectVector effects) {
+        super(player, weapon, effects);
+        this.event = event;
+        this.damage = event.getAmount();
+    }
+
+    public LivingHurtEvent getEvent() {
+        return event;
+    }
+
+    public LivingEntity getTarget() {
+        return event.getEntity();
+    }
+
+    public float getDamage() {
+        return damage;
+    }
+
+    public void setDamage(float damage) {
+        this.damage = damage;
+    }
+
+    /**
+     * Secondary targets of this attack, capped by the config
+     */
+    public AreaAttack getAreaAttack() {
+        if (areaAttack == null) {
+            areaAttack = new AreaAttack(getPlayer(), ModConfig.getAreaAttackMaxTargets());
+        }
+        return areaAttack;
+    }
+
+    public boolean hasAreaAttack() {
+        return areaAttack != null && !areaAttack.isEmpty();
+    }
+}
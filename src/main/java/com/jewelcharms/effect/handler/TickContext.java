@@ -0,0 +1,16 @@
+package com.jewelcharms.effect.handler;
+
+import com.jewelcharms.effect.EffectVector;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+public class TickContext extends EffectContext {
+
+    public TickContext(Player player, ItemStack heldItem, EffectVector effects) {
+        super(player, heldItem, effects);
+    }
+
+    public boolean isClientSide() {
+        return getPlayer().level().isClientSide;
+    }
+}
@@ -0,0 +1,19 @@
+package com.jewelcharms.effect.handler;
+
+import com.jewelcharms.effect.EffectVector;
+import net.minecraft.world.entity.ExperienceOrb;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+public class XpContext extends EffectContext {
+    private final ExperienceOrb orb;
+
+    public XpContext(ExperienceOrb orb, Player player, ItemStack heldItem, EffectVector effects) {
+        super(player, heldItem, effects);
+        this.orb = orb;
+    }
+
+    public ExperienceOrb getOrb() {
+        return orb;
+    }
+}
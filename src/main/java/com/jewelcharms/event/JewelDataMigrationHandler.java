@@ -0,0 +1,78 @@
+package com.jewelcharms.event;
+
+import com.jewelcharms.JewelCharms;
+import com.jewelcharms.util.JewelData;
+import com.jewelcharms.util.ToolJewelData;
+import net.minecraft.world.Container;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Rewrites legacy (v1) jewel tags in the compact v2 schema as stacks are loaded or first read,
+ * so saved chunks, player data and inventory sync shrink over time without a world conversion.
+ * With the world jewel registry disabled, the same pass embeds full definitions again, making
+ * stacks self-contained before they are exported to another world.
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class JewelDataMigrationHandler {
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        Player player = event.getEntity();
+        int migrated = migrateContainer(player.getInventory()) + migrateContainer(player.getEnderChestInventory());
+        if (migrated > 0) {
+            JewelCharms.LOGGER.debug("Migrated {} jeweled items for {}", migrated, player.getName().getString());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide() || !(event.getEntity() instanceof ItemEntity itemEntity)) {
+            return;
+        }
+
+        ItemStack stack = itemEntity.getItem();
+        if (migrate(stack)) {
+            itemEntity.setItem(stack);
+        }
+    }
+
+    /**
+     * Block-entity inventories migrate the first time they are opened rather than on chunk load,
+     * since reading an unopened loot chest would roll its loot table early.
+     */
+    @SubscribeEvent
+    public static void onContainerOpen(PlayerContainerEvent.Open event) {
+        if (event.getEntity().level().isClientSide()) {
+            return;
+        }
+
+        for (Slot slot : event.getContainer().slots) {
+            if (slot.hasItem() && migrate(slot.getItem())) {
+                slot.setChanged();
+            }
+        }
+    }
+
+    private static boolean migrate(ItemStack stack) {
+        return ToolJewelData.migrate(stack) | JewelData.migrate(stack);
+    }
+
+    private static int migrateContainer(Container container) {
+        int migrated = 0;
+        for (int i = 0; i < container.getContainerSize(); i++) {
+            ItemStack stack = container.getItem(i);
+            if (!stack.isEmpty() && migrate(stack)) {
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+}
@@ -0,0 +1,50 @@
+package com.jewelcharms.event;
+
+import com.jewelcharms.JewelCharms;
+import com.jewelcharms.network.JewelDefinitionSyncPacket;
+import com.jewelcharms.network.ModNetwork;
+import com.jewelcharms.util.JewelRegistry;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps clients' copies of the world jewel registry in sync
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class JewelRegistryHandler {
+
+    /**
+     * Send every known definition to a joining player. Definitions registered later are broadcast as they appear.
+     */
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)) {
+            return;
+        }
+
+        Map<Long, CompoundTag> batch = new HashMap<>();
+        for (Long2ObjectMap.Entry<CompoundTag> entry : JewelRegistry.getSavedData(player.server).getAll().long2ObjectEntrySet()) {
+            batch.put(entry.getLongKey(), entry.getValue());
+            if (batch.size() >= JewelDefinitionSyncPacket.MAX_BATCH) {
+                ModNetwork.sendToPlayer(new JewelDefinitionSyncPacket(batch), player);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            ModNetwork.sendToPlayer(new JewelDefinitionSyncPacket(batch), player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        JewelRegistry.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package com.jewelcharms.init;
+
+import com.jewelcharms.JewelCharms;
+import com.jewelcharms.loot.JewelDropModifier;
+import com.jewelcharms.loot.JewelMobDropModifier;
+import com.mojang.serialization.Codec;
+import net.minecraftforge.common.loot.IGlobalLootModifier;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.RegistryObject;
+
+/**
+ * Registry for global loot modifier serializers
+ */
+public class ModLootModifiers {
+    public static final DeferredRegister<Codec<? extends IGlobalLootModifier>> LOOT_MODIFIER_SERIALIZERS =
+            DeferredRegister.create(ForgeRegistries.Keys.GLOBAL_LOOT_MODIFIER_SERIALIZERS, JewelCharms.MOD_ID);
+
+    public static final RegistryObject<Codec<JewelDropModifier>> JEWEL_DROPS = LOOT_MODIFIER_SERIALIZERS.register("jewel_drops",
+            () -> JewelDropModifier.CODEC);
+    public static final RegistryObject<Codec<JewelMobDropModifier>> JEWEL_MOB_DROPS = LOOT_MODIFIER_SERIALIZERS.register("jewel_mob_drops",
+            () -> JewelMobDropModifier.CODEC);
+}
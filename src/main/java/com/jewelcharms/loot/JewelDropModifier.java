@@ -0,0 +1,166 @@
+package com.jewelcharms.loot;
+
+import com.jewelcharms.capability.HeldJewelProfile;
+import com.jewelcharms.effect.DominoEffectTracker;
+import com.jewelcharms.effect.DropDelivery;
+import com.jewelcharms.effect.EffectVector;
+import com.jewelcharms.effect.JewelEffect;
+import com.jewelcharms.init.ModLootModifiers;
+import com.jewelcharms.util.ItemClassifier;
+import com.jewelcharms.util.SmeltingResults;
+import com.jewelcharms.util.ToolJewelData;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.storage.loot.LootContext;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.level.storage.loot.predicates.LootItemCondition;
+import net.minecraftforge.common.loot.IGlobalLootModifier;
+import net.minecraftforge.common.loot.LootModifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Applies Fortune, Auto-Smelt and Domino Effect to a block's loot as it is generated, then delivers it
+ * for Ender Pocket and Item Magnet.
+ *
+ * The effects are read from the tool in the loot context, so they only apply to blocks actually broken
+ * with a jeweled tool, and they work on the real drop list rather than on ItemEntities spawned afterwards.
+ * Auto-Smelt uses the loaded furnace recipes through {@link SmeltingResults}.
+ * All randomness comes from the loot context.
+ */
+public class JewelDropModifier extends LootModifier {
+    public static final Codec<JewelDropModifier> CODEC = RecordCodecBuilder.create(instance ->
+            codecStart(instance).apply(instance, JewelDropModifier::new));
+
+    /** Ores whose gem drop gets Fortune's bonus */
+    private static final Map<Block, Item> FORTUNE_BLOCKS = Map.ofEntries(
+            Map.entry(Blocks.COAL_ORE, Items.COAL),
+            Map.entry(Blocks.DEEPSLATE_COAL_ORE, Items.COAL),
+            Map.entry(Blocks.DIAMOND_ORE, Items.DIAMOND),
+            Map.entry(Blocks.DEEPSLATE_DIAMOND_ORE, Items.DIAMOND),
+            Map.entry(Blocks.EMERALD_ORE, Items.EMERALD),
+            Map.entry(Blocks.DEEPSLATE_EMERALD_ORE, Items.EMERALD),
+            Map.entry(Blocks.LAPIS_ORE, Items.LAPIS_LAZULI),
+            Map.entry(Blocks.DEEPSLATE_LAPIS_ORE, Items.LAPIS_LAZULI),
+            Map.entry(Blocks.REDSTONE_ORE, Items.REDSTONE),
+            Map.entry(Blocks.DEEPSLATE_REDSTONE_ORE, Items.REDSTONE),
+            Map.entry(Blocks.NETHER_QUARTZ_ORE, Items.QUARTZ)
+    );
+
+    public JewelDropModifier(LootItemCondition[] conditions) {
+        super(conditions);
+    }
+
+    @Override
+    protected @NotNull ObjectArrayList<ItemStack> doApply(ObjectArrayList<ItemStack> generatedLoot, LootContext context) {
+        BlockState state = context.getParamOrNull(LootContextParams.BLOCK_STATE);
+        ItemStack tool = context.getParamOrNull(LootContextParams.TOOL);
+        if (state == null || tool == null || tool.isEmpty() || !ItemClassifier.isTool(tool)) {
+            return generatedLoot;
+        }
+
+        EffectVector effects = getEffects(tool, context);
+        if (effects.isEmpty() || effects.has(JewelEffect.SILK_TOUCH) || effects.has(JewelEffect.VOID_TOUCH)) {
+            // Silk Touch and Void Touch take over the break entirely
+            return generatedLoot;
+        }
+
+        if (effects.has(JewelEffect.FORTUNE)) {
+            applyFortune(generatedLoot, context, state, effects.get(JewelEffect.FORTUNE));
+        }
+        if (effects.has(JewelEffect.AUTO_SMELT)) {
+            applyAutoSmelt(generatedLoot, context);
+        }
+        if (effects.has(JewelEffect.DOMINO_EFFECT)) {
+            applyDomino(generatedLoot, context, state);
+        }
+        if (DropDelivery.isDelivering(effects)
+                && context.getParamOrNull(LootContextParams.THIS_ENTITY) instanceof Player player) {
+            // Ender Pocket / Item Magnet: hand the drops over before any ItemEntity exists
+            generatedLoot.removeIf(stack -> DropDelivery.deliver(player, stack));
+        }
+        return generatedLoot;
+    }
+
+    /**
+     * The TOOL parameter is a copy of the held stack, so a cache keyed on its tag would always miss.
+     * Player breaks use the player's held profile; anything else reads the stored summary directly.
+     */
+    private static EffectVector getEffects(ItemStack tool, LootContext context) {
+        if (context.getParamOrNull(LootContextParams.THIS_ENTITY) instanceof Player player
+                && player.getMainHandItem().is(tool.getItem())) {
+            return HeldJewelProfile.get(player).getEffects();
+        }
+        return ToolJewelData.getEffectSummary(tool);
+    }
+
+    private static void applyFortune(ObjectArrayList<ItemStack> loot, LootContext context, BlockState state, int fortuneLevel) {
+        Item bonus = FORTUNE_BLOCKS.get(state.getBlock());
+        if (bonus == null) {
+            return;
+        }
+        int extraDrops = context.getRandom().nextInt(fortuneLevel + 1);
+        if (extraDrops > 0) {
+            loot.add(new ItemStack(bonus, extraDrops));
+        }
+    }
+
+    private static void applyAutoSmelt(ObjectArrayList<ItemStack> loot, LootContext context) {
+        // Any drop with a furnace recipe, e.g. raw ores, silk-touched ores or sand
+        for (int i = 0; i < loot.size(); i++) {
+            ItemStack stack = loot.get(i);
+            ItemStack smelted = SmeltingResults.get(context.getLevel(), stack.getItem());
+            if (!smelted.isEmpty()) {
+                loot.set(i, smelted.copyWithCount(smelted.getCount() * stack.getCount()));
+            }
+        }
+    }
+
+    private static void applyDomino(ObjectArrayList<ItemStack> loot, LootContext context, BlockState state) {
+        Entity entity = context.getParamOrNull(LootContextParams.THIS_ENTITY);
+        if (!(entity instanceof Player player)) {
+            return;
+        }
+
+        int multiplier = DominoEffectTracker.onBlockBreak(player.getUUID(), state.getBlock());
+        if (multiplier <= 1) {
+            return;
+        }
+
+        // Multiply each drop, keeping every stack within its max size
+        ObjectArrayList<ItemStack> multiplied = new ObjectArrayList<>(loot.size() * multiplier);
+        for (ItemStack stack : loot) {
+            int remaining = stack.getCount() * multiplier;
+            while (remaining > 0) {
+                ItemStack part = stack.copyWithCount(Math.min(remaining, stack.getMaxStackSize()));
+                remaining -= part.getCount();
+                multiplied.add(part);
+            }
+        }
+        loot.clear();
+        loot.addAll(multiplied);
+
+        // Show chain count to player
+        player.displayClientMessage(
+                Component.literal("Chain x" + multiplier + "!").withStyle(ChatFormatting.GOLD),
+                true
+        );
+    }
+
+    @Override
+    public Codec<? extends IGlobalLootModifier> codec() {
+        return ModLootModifiers.JEWEL_DROPS.get();
+    }
+}
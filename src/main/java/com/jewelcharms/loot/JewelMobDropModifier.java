@@ -0,0 +1,68 @@
+package com.jewelcharms.loot;
+
+import com.jewelcharms.capability.HeldJewelProfile;
+import com.jewelcharms.effect.EffectVector;
+import com.jewelcharms.effect.JewelEffect;
+import com.jewelcharms.init.ModLootModifiers;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.storage.loot.LootContext;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.level.storage.loot.predicates.LootItemCondition;
+import net.minecraftforge.common.loot.IGlobalLootModifier;
+import net.minecraftforge.common.loot.LootModifier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Adds Looting and Beheading drops to a mob's loot when it is killed by a player with a jeweled weapon.
+ * The extra items come from {@link MobDropTable}; randomness comes from the loot context.
+ */
+public class JewelMobDropModifier extends LootModifier {
+    public static final Codec<JewelMobDropModifier> CODEC = RecordCodecBuilder.create(instance ->
+            codecStart(instance).apply(instance, JewelMobDropModifier::new));
+
+    public JewelMobDropModifier(LootItemCondition[] conditions) {
+        super(conditions);
+    }
+
+    @Override
+    protected @NotNull ObjectArrayList<ItemStack> doApply(ObjectArrayList<ItemStack> generatedLoot, LootContext context) {
+        Entity victim = context.getParamOrNull(LootContextParams.THIS_ENTITY);
+        if (victim == null || !(context.getParamOrNull(LootContextParams.KILLER_ENTITY) instanceof Player player)
+                || player.getMainHandItem().isEmpty()) {
+            return generatedLoot;
+        }
+
+        MobDropTable.MobDrops drops = MobDropTable.get(victim.getType());
+        if (drops == null) {
+            return generatedLoot;
+        }
+
+        EffectVector effects = HeldJewelProfile.get(player).getEffects();
+
+        // Looting - 0 to level extra common drops
+        if (drops.looting() != null && effects.has(JewelEffect.LOOTING)) {
+            int extraDrops = context.getRandom().nextInt(effects.get(JewelEffect.LOOTING) + 1);
+            if (extraDrops > 0) {
+                generatedLoot.add(new ItemStack(drops.looting(), extraDrops));
+            }
+        }
+
+        // Beheading - 5% head chance per level
+        if (drops.head() != null && effects.has(JewelEffect.BEHEADING)
+                && context.getRandom().nextFloat() < effects.get(JewelEffect.BEHEADING) * 0.05f) {
+            generatedLoot.add(new ItemStack(drops.head()));
+        }
+
+        return generatedLoot;
+    }
+
+    @Override
+    public Codec<? extends IGlobalLootModifier> codec() {
+        return ModLootModifiers.JEWEL_MOB_DROPS.get();
+    }
+}
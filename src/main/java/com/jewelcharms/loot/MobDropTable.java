@@ -0,0 +1,98 @@
+package com.jewelcharms.loot;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.jewelcharms.JewelCharms;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.item.Item;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Datapack table of the extra mob drops used by Looting and Beheading, keyed by entity type.
+ *
+ * Loaded from {@code data/<namespace>/jewel_mob_drops/*.json}. Each file maps entity ids to an object with
+ * an optional {@code "looting"} item (extra common drop) and {@code "head"} item:
+ * <pre>{ "minecraft:zombie": { "looting": "minecraft:rotten_flesh", "head": "minecraft:zombie_head" } }</pre>
+ * Later files override earlier entries for the same entity. Unknown ids are skipped with a warning.
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class MobDropTable extends SimpleJsonResourceReloadListener {
+    private static final Gson GSON = new GsonBuilder().create();
+    public static final String DIRECTORY = "jewel_mob_drops";
+
+    public record MobDrops(@Nullable Item looting, @Nullable Item head) {
+    }
+
+    private static volatile Reference2ObjectMap<EntityType<?>, MobDrops> table = new Reference2ObjectOpenHashMap<>();
+
+    public MobDropTable() {
+        super(GSON, DIRECTORY);
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new MobDropTable());
+    }
+
+    /**
+     * Extra drops for an entity type, or null if it has none
+     */
+    @Nullable
+    public static MobDrops get(EntityType<?> type) {
+        return table.get(type);
+    }
+
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> files, ResourceManager resourceManager, ProfilerFiller profiler) {
+        Reference2ObjectMap<EntityType<?>, MobDrops> loaded = new Reference2ObjectOpenHashMap<>();
+
+        files.forEach((file, json) -> {
+            try {
+                JsonObject entries = GsonHelper.convertToJsonObject(json, "mob drops");
+                for (Map.Entry<String, JsonElement> entry : entries.entrySet()) {
+                    ResourceLocation entityId = new ResourceLocation(entry.getKey());
+                    if (!ForgeRegistries.ENTITY_TYPES.containsKey(entityId)) {
+                        JewelCharms.LOGGER.warn("Unknown entity {} in mob drops {}", entityId, file);
+                        continue;
+                    }
+                    JsonObject drops = GsonHelper.convertToJsonObject(entry.getValue(), entry.getKey());
+                    loaded.put(ForgeRegistries.ENTITY_TYPES.getValue(entityId),
+                            new MobDrops(readItem(drops, "looting", file), readItem(drops, "head", file)));
+                }
+            } catch (RuntimeException e) {
+                JewelCharms.LOGGER.error("Failed to load mob drops {}", file, e);
+            }
+        });
+
+        table = loaded;
+        JewelCharms.LOGGER.info("Loaded jewel mob drops for {} entity types", loaded.size());
+    }
+
+    @Nullable
+    private static Item readItem(JsonObject drops, String key, ResourceLocation file) {
+        if (!drops.has(key)) {
+            return null;
+        }
+        ResourceLocation itemId = new ResourceLocation(GsonHelper.getAsString(drops, key));
+        if (!ForgeRegistries.ITEMS.containsKey(itemId)) {
+            JewelCharms.LOGGER.warn("Unknown item {} in mob drops {}", itemId, file);
+            return null;
+        }
+        return ForgeRegistries.ITEMS.getValue(itemId);
+    }
+}
@@ -157,6 +157,11 @@ public class JewelCreationStationMenu extends AbstractContainerMenu {
             return;
         }
 
+        // Jewels whose definitions are unknown in this world can't be turned back into items
+        if (ToolJewelData.hasUnresolvedJewels(tool)) {
+            return;
+        }
+
         List<ToolJewelData.AttachedJewel> jewels = ToolJewelData.getAttachedJewels(tool);
         if (jewels.isEmpty()) {
             return;
@@ -0,0 +1,77 @@
+package com.jewelcharms.network;
+
+import com.jewelcharms.client.GravityTetherOrbits;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Packet sent from server to client when items start orbiting a player (Gravity Tether)
+ * Carries only the orbit parameters; clients animate the items themselves
+ */
+public class GravityTetherAttachPacket {
+    private final int playerId;
+    private final int[] entityIds;
+    private final float[] phases;
+    private final float[] radii;
+    private final float[] heights;
+    private final long[] startTicks;
+
+    public GravityTetherAttachPacket(int playerId, int[] entityIds, float[] phases, float[] radii, float[] heights, long[] startTicks) {
+        this.playerId = playerId;
+        this.entityIds = entityIds;
+        this.phases = phases;
+        this.radii = radii;
+        this.heights = heights;
+        this.startTicks = startTicks;
+    }
+
+    public static void encode(GravityTetherAttachPacket packet, FriendlyByteBuf buffer) {
+        buffer.writeVarInt(packet.playerId);
+        buffer.writeVarInt(packet.entityIds.length);
+        for (int i = 0; i < packet.entityIds.length; i++) {
+            buffer.writeVarInt(packet.entityIds[i]);
+            buffer.writeFloat(packet.phases[i]);
+            buffer.writeFloat(packet.radii[i]);
+            buffer.writeFloat(packet.heights[i]);
+            buffer.writeVarLong(packet.startTicks[i]);
+        }
+    }
+
+    public static GravityTetherAttachPacket decode(FriendlyByteBuf buffer) {
+        int playerId = buffer.readVarInt();
+        int size = buffer.readVarInt();
+        int[] entityIds = new int[size];
+        float[] phases = new float[size];
+        float[] radii = new float[size];
+        float[] heights = new float[size];
+        long[] startTicks = new long[size];
+        for (int i = 0; i < size; i++) {
+            entityIds[i] = buffer.readVarInt();
+            phases[i] = buffer.readFloat();
+            radii[i] = buffer.readFloat();
+            heights[i] = buffer.readFloat();
+            startTicks[i] = buffer.readVarLong();
+        }
+        return new GravityTetherAttachPacket(playerId, entityIds, phases, radii, heights, startTicks);
+    }
+
+    public static void handle(GravityTetherAttachPacket packet, Supplier<NetworkEvent.Context> contextSupplier) {
+        NetworkEvent.Context context = contextSupplier.get();
+        context.enqueueWork(() -> {
+            handleClientSide(packet);
+        });
+        context.setPacketHandled(true);
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    private static void handleClientSide(GravityTetherAttachPacket packet) {
+        for (int i = 0; i < packet.entityIds.length; i++) {
+            GravityTetherOrbits.attach(packet.playerId, packet.entityIds[i], packet.phases[i],
+                    packet.radii[i], packet.heights[i], packet.startTicks[i]);
+        }
+    }
+}
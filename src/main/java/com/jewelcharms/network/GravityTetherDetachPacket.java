@@ -0,0 +1,53 @@
+package com.jewelcharms.network;
+
+import com.jewelcharms.client.GravityTetherOrbits;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Packet sent from server to client when orbiting items are released or collected (Gravity Tether)
+ */
+public class GravityTetherDetachPacket {
+    private final int playerId;
+    private final int[] entityIds;
+    private final boolean collected;
+
+    public GravityTetherDetachPacket(int playerId, int[] entityIds, boolean collected) {
+        this.playerId = playerId;
+        this.entityIds = entityIds;
+        this.collected = collected;
+    }
+
+    public static void encode(GravityTetherDetachPacket packet, FriendlyByteBuf buffer) {
+        buffer.writeVarInt(packet.playerId);
+        buffer.writeVarIntArray(packet.entityIds);
+        buffer.writeBoolean(packet.collected);
+    }
+
+    public static GravityTetherDetachPacket decode(FriendlyByteBuf buffer) {
+        return new GravityTetherDetachPacket(
+            buffer.readVarInt(),
+            buffer.readVarIntArray(),
+            buffer.readBoolean()
+        );
+    }
+
+    public static void handle(GravityTetherDetachPacket packet, Supplier<NetworkEvent.Context> contextSupplier) {
+        NetworkEvent.Context context = contextSupplier.get();
+        context.enqueueWork(() -> {
+            handleClientSide(packet);
+        });
+        context.setPacketHandled(true);
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    private static void handleClientSide(GravityTetherDetachPacket packet) {
+        for (int entityId : packet.entityIds) {
+            GravityTetherOrbits.detach(packet.playerId, entityId, packet.collected);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jewelcharms.network;
+
+import com.jewelcharms.util.JewelRegistry;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Packet sent from server to client with jewel registry definitions, so referenced jewels can be displayed
+ */
+public class JewelDefinitionSyncPacket {
+    /** Definitions per packet, keeping each payload well under the vanilla size limit */
+    public static final int MAX_BATCH = 512;
+
+    private final Map<Long, CompoundTag> definitions;
+
+    public JewelDefinitionSyncPacket(Map<Long, CompoundTag> definitions) {
+        this.definitions = definitions;
+    }
+
+    public static void encode(JewelDefinitionSyncPacket packet, FriendlyByteBuf buffer) {
+        buffer.writeVarInt(packet.definitions.size());
+        packet.definitions.forEach((id, definition) -> {
+            buffer.writeLong(id);
+            buffer.writeNbt(definition);
+        });
+    }
+
+    public static JewelDefinitionSyncPacket decode(FriendlyByteBuf buffer) {
+        int size = buffer.readVarInt();
+        Map<Long, CompoundTag> definitions = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            long id = buffer.readLong();
+            CompoundTag definition = buffer.readNbt();
+            if (definition != null) {
+                definitions.put(id, definition);
+            }
+        }
+        return new JewelDefinitionSyncPacket(definitions);
+    }
+
+    public static void handle(JewelDefinitionSyncPacket packet, Supplier<NetworkEvent.Context> contextSupplier) {
+        NetworkEvent.Context context = contextSupplier.get();
+        context.enqueueWork(() -> JewelRegistry.accept(packet.definitions));
+        context.setPacketHandled(true);
+    }
+}
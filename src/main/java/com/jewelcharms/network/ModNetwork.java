@@ -74,6 +74,24 @@ public class ModNetwork {
                 .consumerMainThread(PuzzleStateUpdatePacket::handle)
                 .add();
 
+        CHANNEL.messageBuilder(JewelDefinitionSyncPacket.class, packetId++, NetworkDirection.PLAY_TO_CLIENT)
+                .encoder(JewelDefinitionSyncPacket::encode)
+                .decoder(JewelDefinitionSyncPacket::decode)
+                .consumerMainThread(JewelDefinitionSyncPacket::handle)
+                .add();
+
+        CHANNEL.messageBuilder(GravityTetherAttachPacket.class, packetId++, NetworkDirection.PLAY_TO_CLIENT)
+                .encoder(GravityTetherAttachPacket::encode)
+                .decoder(GravityTetherAttachPacket::decode)
+                .consumerMainThread(GravityTetherAttachPacket::handle)
+                .add();
+
+        CHANNEL.messageBuilder(GravityTetherDetachPacket.class, packetId++, NetworkDirection.PLAY_TO_CLIENT)
+                .encoder(GravityTetherDetachPacket::encode)
+                .decoder(GravityTetherDetachPacket::decode)
+                .consumerMainThread(GravityTetherDetachPacket::handle)
+                .add();
+
         JewelCharms.LOGGER.info("Registered network packets");
     }
 
@@ -84,4 +102,12 @@ public class ModNetwork {
     public static void sendToPlayer(Object packet, ServerPlayer player) {
         CHANNEL.send(PacketDistributor.PLAYER.with(() -> player), packet);
     }
+
+    public static void sendToTrackingAndSelf(Object packet, ServerPlayer player) {
+        CHANNEL.send(PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> player), packet);
+    }
+
+    public static void sendToAll(Object packet) {
+        CHANNEL.send(PacketDistributor.ALL.noArg(), packet);
+    }
 }
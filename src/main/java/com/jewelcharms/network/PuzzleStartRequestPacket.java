@@ -45,33 +45,28 @@ public class PuzzleStartRequestPacket {
             if (player.containerMenu instanceof JewelCreationStationMenu menu) {
                 // Get materials and create jewel data
                 List<ItemStack> materials = menu.getMaterialStacks();
-                ItemStack jewel = JewelCreationHelper.createJewel(materials);
+                JewelData jewelData = JewelCreationHelper.createJewelData(materials);
 
-                if (!jewel.isEmpty()) {
-                    JewelData jewelData = JewelData.fromItemStack(jewel);
-                    if (jewelData != null) {
-                        // Clear materials on server
-                        menu.clearMaterialSlots();
+                if (jewelData != null) {
+                    // Clear materials on server
+                    menu.clearMaterialSlots();
 
-                        // Start server-side puzzle
-                        ServerPuzzleTracker.startPuzzle(player, jewelData, packet.pos);
+                    // Start server-side puzzle
+                    ServerPuzzleTracker.startPuzzle(player, jewelData, packet.pos);
 
-                        // Get the puzzle state
-                        var puzzleState = ServerPuzzleTracker.getPuzzleState(player);
-                        if (puzzleState != null) {
-                            // Send initial puzzle state to client
-                            ModNetwork.sendToPlayer(new PuzzleStateUpdatePacket(
-                                packet.pos,
-                                puzzleState.serialize(),
-                                jewelData.serialize(),
-                                true,  // startPuzzle = true
-                                0      // moveCount = 0
-                            ), player);
+                    // Get the puzzle state
+                    var puzzleState = ServerPuzzleTracker.getPuzzleState(player);
+                    if (puzzleState != null) {
+                        // Send initial puzzle state to client
+                        ModNetwork.sendToPlayer(new PuzzleStateUpdatePacket(
+                            packet.pos,
+                            puzzleState.serialize(),
+                            jewelData.serialize(),
+                            true,  // startPuzzle = true
+                            0      // moveCount = 0
+                        ), player);
 
-                            JewelCharms.LOGGER.info("Started server-side puzzle for player {}", player.getName().getString());
-                        }
-                    } else {
-                        JewelCharms.LOGGER.error("Failed to create JewelData from materials");
+                        JewelCharms.LOGGER.info("Started server-side puzzle for player {}", player.getName().getString());
                     }
                 } else {
                     JewelCharms.LOGGER.warn("Cannot start puzzle - invalid materials");
@@ -2,17 +2,21 @@ package com.jewelcharms.recipe;
 
 import com.jewelcharms.init.ModItems;
 import com.jewelcharms.init.ModRecipeTypes;
+import com.jewelcharms.util.ItemClassifier;
 import com.jewelcharms.util.JewelData;
 import com.jewelcharms.util.ToolJewelData;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.SmithingTransformRecipe;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.stream.Stream;
 
 public class JewelAttachmentRecipe extends SmithingTransformRecipe {
     private final ResourceLocation id;
@@ -20,16 +24,8 @@ public class JewelAttachmentRecipe extends SmithingTransformRecipe {
     public JewelAttachmentRecipe(ResourceLocation id) {
         super(id,
             Ingredient.of(ModItems.JEWEL_SOCKET_TEMPLATE.get()),
-            // Accept common tools - will be checked more thoroughly in isBaseIngredient
-            Ingredient.of(
-                Items.DIAMOND_SWORD, Items.DIAMOND_PICKAXE, Items.DIAMOND_AXE, Items.DIAMOND_SHOVEL, Items.DIAMOND_HOE,
-                Items.IRON_SWORD, Items.IRON_PICKAXE, Items.IRON_AXE, Items.IRON_SHOVEL, Items.IRON_HOE,
-                Items.GOLDEN_SWORD, Items.GOLDEN_PICKAXE, Items.GOLDEN_AXE, Items.GOLDEN_SHOVEL, Items.GOLDEN_HOE,
-                Items.NETHERITE_SWORD, Items.NETHERITE_PICKAXE, Items.NETHERITE_AXE, Items.NETHERITE_SHOVEL, Items.NETHERITE_HOE,
-                Items.STONE_SWORD, Items.STONE_PICKAXE, Items.STONE_AXE, Items.STONE_SHOVEL, Items.STONE_HOE,
-                Items.WOODEN_SWORD, Items.WOODEN_PICKAXE, Items.WOODEN_AXE, Items.WOODEN_SHOVEL, Items.WOODEN_HOE,
-                Items.BOW, Items.CROSSBOW, Items.TRIDENT, Items.SHEARS, Items.FISHING_ROD
-            ),
+            // Everything the item classifier accepts, checked when used so tag-based tools count
+            new SocketableIngredient(),
             Ingredient.of(ModItems.JEWEL.get()),
             ItemStack.EMPTY);
         this.id = id;
@@ -128,7 +124,44 @@ public class JewelAttachmentRecipe extends SmithingTransformRecipe {
     }
 
     private boolean isValidTool(ItemStack stack) {
-        // Check if item is a vanilla tool
-        return stack.isDamageableItem() && !stack.is(ModItems.JEWEL_CREATION_STATION_ITEM.get());
+        return ItemClassifier.isSocketable(stack);
+    }
+
+    /**
+     * Base ingredient backed by {@link ItemClassifier}. The recipe is built before item tags are bound,
+     * so both the test and the displayed items are resolved on use rather than at construction.
+     */
+    private static class SocketableIngredient extends Ingredient {
+        private List<Item> displayedFrom;
+        private ItemStack[] displayed;
+
+        SocketableIngredient() {
+            super(Stream.empty());
+        }
+
+        @Override
+        public boolean test(@Nullable ItemStack stack) {
+            return stack != null && ItemClassifier.isSocketable(stack);
+        }
+
+        @Override
+        public ItemStack[] getItems() {
+            List<Item> items = ItemClassifier.getSocketableItems();
+            if (items != displayedFrom) {
+                displayed = items.stream().map(ItemStack::new).toArray(ItemStack[]::new);
+                displayedFrom = items;
+            }
+            return displayed;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public boolean isSimple() {
+            return false;
+        }
     }
 }
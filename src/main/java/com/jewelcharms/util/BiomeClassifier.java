@@ -0,0 +1,114 @@
+package com.jewelcharms.util;
+
+import com.jewelcharms.JewelCharms;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.QuartPos;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.tags.BiomeTags;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Biome Resonance's view of a biome (cold, hot, ocean, forest) as bit flags, computed once per biome.
+ *
+ * The table is rebuilt whenever server data is (re)loaded, since ocean and forest come from biome tags. On top
+ * of it, each player remembers the flags of the last quart (4x4x4 biome cell) they looked up, so repeated
+ * hits and breaks in the same spot skip the biome lookup entirely.
+ *
+ * Cold uses the biome's base temperature; unlike {@link Biome#coldEnoughToSnow} it ignores the extra
+ * cooling at high altitude.
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class BiomeClassifier {
+    public static final byte COLD = 1;
+    public static final byte HOT = 2;
+    public static final byte OCEAN = 4;
+    public static final byte FOREST = 8;
+
+    /** Below this, precipitation falls as snow (see {@link Biome#warmEnoughToRain}) */
+    private static final float SNOW_TEMPERATURE = 0.15f;
+    private static final float HOT_TEMPERATURE = 1.0f;
+
+    private static class QuartCache {
+        ResourceKey<Level> dimension;
+        long quart;
+        byte flags;
+    }
+
+    private static volatile Reference2ByteMap<Biome> table = new Reference2ByteOpenHashMap<>();
+    private static final Map<UUID, QuartCache> playerCaches = new HashMap<>();
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        // Biome Resonance only runs on the server, so only the server's biome instances matter
+        if (event.getUpdateCause() != TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            return;
+        }
+
+        Registry<Biome> registry = event.getRegistryAccess().registryOrThrow(Registries.BIOME);
+        Reference2ByteMap<Biome> rebuilt = new Reference2ByteOpenHashMap<>();
+        registry.holders().forEach(holder -> rebuilt.put(holder.value(), computeFlags(holder)));
+        table = rebuilt;
+        playerCaches.clear();
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        playerCaches.remove(event.getEntity().getUUID());
+    }
+
+    public static byte classify(Holder<Biome> biome) {
+        Reference2ByteMap<Biome> current = table;
+        if (current.containsKey(biome.value())) {
+            return current.getByte(biome.value());
+        }
+        return computeFlags(biome); // Not in the last tag load (e.g. before the first one)
+    }
+
+    /**
+     * Flags of the biome at a position, reusing the player's last result while it stays in the same quart
+     */
+    public static byte classify(Player player, Level level, BlockPos pos) {
+        long quart = BlockPos.asLong(QuartPos.fromBlock(pos.getX()), QuartPos.fromBlock(pos.getY()), QuartPos.fromBlock(pos.getZ()));
+        QuartCache cache = playerCaches.computeIfAbsent(player.getUUID(), key -> new QuartCache());
+        if (cache.dimension != level.dimension() || cache.quart != quart) {
+            cache.dimension = level.dimension();
+            cache.quart = quart;
+            cache.flags = classify(level.getBiome(pos));
+        }
+        return cache.flags;
+    }
+
+    private static byte computeFlags(Holder<Biome> holder) {
+        Biome biome = holder.value();
+        float temperature = biome.getBaseTemperature();
+        byte flags = 0;
+        if (temperature < SNOW_TEMPERATURE) {
+            flags |= COLD;
+        }
+        if (temperature > HOT_TEMPERATURE) {
+            flags |= HOT;
+        }
+        if (holder.is(BiomeTags.IS_OCEAN)) {
+            flags |= OCEAN;
+        }
+        if (holder.is(BiomeTags.IS_FOREST)) {
+            flags |= FOREST;
+        }
+        return flags;
+    }
+}
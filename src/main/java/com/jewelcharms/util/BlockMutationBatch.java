@@ -0,0 +1,166 @@
+package com.jewelcharms.util;
+
+import com.jewelcharms.effect.DropCollector;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.BaseFireBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.gameevent.GameEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the block changes of one effect activation and applies them together, grouped by chunk section.
+ *
+ * Blocks are set without per-block neighbour or shape updates; once everything is placed, only the blocks
+ * bordering the changed region are notified, so a felled tree doesn't update every log against every other
+ * log. Client updates go through the chunk holder's per-section change tracking, which sends one
+ * section-blocks-update packet per touched section, and break particles are played once per section.
+ */
+public class BlockMutationBatch {
+    /** Sync to clients and skip shape updates; neighbours are updated once at the end */
+    private static final int SET_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+
+    private static class Change {
+        final BlockPos pos;
+        final BlockState newState;
+        final boolean destroy;
+        final boolean drop;
+        final Entity breaker;
+        final DropCollector collector;
+        BlockState oldState;
+
+        Change(BlockPos pos, BlockState newState, boolean destroy, boolean drop, Entity breaker, DropCollector collector) {
+            this.pos = pos;
+            this.newState = newState;
+            this.destroy = destroy;
+            this.drop = drop;
+            this.breaker = breaker;
+            this.collector = collector;
+        }
+    }
+
+    private final ServerLevel level;
+    private final Long2ObjectMap<List<Change>> bySection = new Long2ObjectLinkedOpenHashMap<>();
+    private final LongSet positions = new LongOpenHashSet();
+
+    public BlockMutationBatch(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Queue a block to be broken like {@link ServerLevel#destroyBlock}, leaving its fluid behind
+     * @return false if the position is already part of this batch
+     */
+    public boolean destroy(BlockPos pos, boolean drop, @Nullable Entity breaker) {
+        return add(new Change(pos.immutable(), null, true, drop, breaker, null));
+    }
+
+    /**
+     * Queue a block to be broken, handing its drops to a collector instead of spawning them in place
+     * @return false if the position is already part of this batch
+     */
+    public boolean destroy(BlockPos pos, @Nullable Entity breaker, DropCollector drops) {
+        return add(new Change(pos.immutable(), null, true, true, breaker, drops));
+    }
+
+    /**
+     * Queue a plain state change
+     * @return false if the position is already part of this batch
+     */
+    public boolean set(BlockPos pos, BlockState state) {
+        return add(new Change(pos.immutable(), state, false, false, null, null));
+    }
+
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    private boolean add(Change change) {
+        if (!positions.add(change.pos.asLong())) {
+            return false;
+        }
+        bySection.computeIfAbsent(SectionPos.asLong(change.pos), key -> new ArrayList<>()).add(change);
+        return true;
+    }
+
+    /**
+     * Apply every queued change, then update the blocks around the changed region
+     */
+    public void apply() {
+        if (positions.isEmpty()) {
+            return;
+        }
+
+        List<Change> applied = new ArrayList<>(positions.size());
+        for (List<Change> section : bySection.values()) {
+            boolean effectPlayed = false;
+            for (Change change : section) {
+                BlockState oldState = level.getBlockState(change.pos);
+                BlockState newState = change.destroy ? oldState.getFluidState().createLegacyBlock() : change.newState;
+                if (oldState == newState || (change.destroy && oldState.isAir())) {
+                    continue;
+                }
+
+                if (change.destroy) {
+                    // Break particles and sound once per section rather than once per block
+                    if (!effectPlayed && !(oldState.getBlock() instanceof BaseFireBlock)) {
+                        level.levelEvent(2001, change.pos, Block.getId(oldState));
+                        effectPlayed = true;
+                    }
+                    if (change.drop) {
+                        BlockEntity blockEntity = oldState.hasBlockEntity() ? level.getBlockEntity(change.pos) : null;
+                        if (change.collector != null) {
+                            change.collector.addAll(Block.getDrops(oldState, level, change.pos, blockEntity, change.breaker, ItemStack.EMPTY));
+                            oldState.spawnAfterBreak(level, change.pos, ItemStack.EMPTY, true);
+                        } else {
+                            Block.dropResources(oldState, level, change.pos, blockEntity, change.breaker, ItemStack.EMPTY);
+                        }
+                    }
+                }
+
+                if (level.setBlock(change.pos, newState, SET_FLAGS)) {
+                    change.oldState = oldState;
+                    applied.add(change);
+                    if (change.destroy) {
+                        level.gameEvent(GameEvent.BLOCK_DESTROY, change.pos, GameEvent.Context.of(change.breaker, oldState));
+                    }
+                }
+            }
+        }
+
+        BlockPos.MutableBlockPos neighbourPos = new BlockPos.MutableBlockPos();
+        for (Change change : applied) {
+            BlockState newState = level.getBlockState(change.pos);
+            for (Direction direction : Direction.values()) {
+                neighbourPos.setWithOffset(change.pos, direction);
+                if (positions.contains(neighbourPos.asLong())) {
+                    continue; // Inside the batch; nothing there needs to react
+                }
+                BlockState neighbourState = level.getBlockState(neighbourPos);
+                BlockState updated = neighbourState.updateShape(direction.getOpposite(), newState, level, neighbourPos, change.pos);
+                Block.updateOrDestroy(neighbourState, updated, level, neighbourPos, Block.UPDATE_ALL);
+                level.neighborChanged(neighbourPos, change.oldState.getBlock(), change.pos);
+            }
+        }
+
+        bySection.clear();
+        positions.clear();
+    }
+}
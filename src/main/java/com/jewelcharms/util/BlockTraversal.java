@@ -0,0 +1,208 @@
+package com.jewelcharms.util;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Breadth-first search over connected blocks, shared by vein mining and tree felling.
+ *
+ * Positions are packed into longs ({@link BlockPos#asLong}) and kept in primitive hash sets and ring-buffer
+ * queues, so a search allocates no BlockPos objects. Block states are read straight from chunk section
+ * palettes through a {@link SectionSource}, with the last section cached, instead of one getBlockState
+ * call (and chunk lookup) per position. Unloaded sections count as non-matching.
+ */
+public final class BlockTraversal {
+
+    /**
+     * Which neighbours of a block count as connected
+     */
+    public enum Neighbourhood {
+        /** The 6 blocks sharing a face */
+        FACES(1),
+        /** Face and edge neighbours (18) */
+        EDGES(2),
+        /** The full 3x3x3 cube around the block (26) */
+        CUBE(3);
+
+        private final int[] offsets;
+
+        Neighbourhood(int maxManhattan) {
+            List<int[]> list = new ArrayList<>();
+            for (int x = -1; x <= 1; x++) {
+                for (int y = -1; y <= 1; y++) {
+                    for (int z = -1; z <= 1; z++) {
+                        int manhattan = Math.abs(x) + Math.abs(y) + Math.abs(z);
+                        if (manhattan != 0 && manhattan <= maxManhattan) {
+                            list.add(new int[]{x, y, z});
+                        }
+                    }
+                }
+            }
+            offsets = new int[list.size() * 3];
+            for (int i = 0; i < list.size(); i++) {
+                System.arraycopy(list.get(i), 0, offsets, i * 3, 3);
+            }
+        }
+    }
+
+    /**
+     * Read access to block states by chunk section
+     */
+    @FunctionalInterface
+    public interface SectionSource {
+        /**
+         * The states of a section, or null if it isn't available (unloaded or outside the world)
+         */
+        @Nullable
+        PalettedContainer<BlockState> getSection(int sectionX, int sectionY, int sectionZ);
+    }
+
+    private BlockTraversal() {
+    }
+
+    // ========== PREDICATES ==========
+
+    public static Predicate<BlockState> sameBlock(Block block) {
+        return state -> state.getBlock() == block;
+    }
+
+    /**
+     * Any block in the tag, e.g. {@code BlockTags.LOGS} or {@code Tags.Blocks.ORES}
+     */
+    public static Predicate<BlockState> inTag(TagKey<Block> tag) {
+        return state -> state.is(tag);
+    }
+
+    // ========== SOURCES ==========
+
+    /**
+     * Reads the live level, only from chunks that are already loaded
+     */
+    public static SectionSource live(Level level) {
+        return (sectionX, sectionY, sectionZ) -> {
+            if (sectionY < level.getMinSection() || sectionY >= level.getMaxSection()) {
+                return null;
+            }
+            LevelChunk chunk = level.getChunkSource().getChunkNow(sectionX, sectionZ);
+            if (chunk == null) {
+                return null;
+            }
+            LevelChunkSection section = chunk.getSection(level.getSectionIndexFromSectionY(sectionY));
+            return section.getStates();
+        };
+    }
+
+    // ========== SEARCH ==========
+
+    /**
+     * Find blocks connected to {@code origin} that match the predicate.
+     * The origin itself is not tested or returned; it is only the starting point.
+     * @param maxBlocks stop after this many matches
+     * @param maxDistance maximum distance from the origin on any axis, or -1 for no limit
+     * @return packed positions in breadth-first order
+     */
+    public static LongList traverse(SectionSource source, BlockPos origin, Neighbourhood neighbourhood,
+                                    Predicate<BlockState> predicate, int maxBlocks, int maxDistance) {
+        LongList found = new LongArrayList();
+        if (maxBlocks <= 0) {
+            return found;
+        }
+
+        SectionReader reader = new SectionReader(source);
+        int[] offsets = neighbourhood.offsets;
+        int originX = origin.getX();
+        int originY = origin.getY();
+        int originZ = origin.getZ();
+
+        LongOpenHashSet visited = new LongOpenHashSet();
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        long start = origin.asLong();
+        visited.add(start);
+        queue.enqueue(start);
+
+        while (!queue.isEmpty()) {
+            long current = queue.dequeueLong();
+            int cx = BlockPos.getX(current);
+            int cy = BlockPos.getY(current);
+            int cz = BlockPos.getZ(current);
+
+            for (int i = 0; i < offsets.length; i += 3) {
+                int x = cx + offsets[i];
+                int y = cy + offsets[i + 1];
+                int z = cz + offsets[i + 2];
+                if (maxDistance >= 0 && (Math.abs(x - originX) > maxDistance
+                        || Math.abs(y - originY) > maxDistance || Math.abs(z - originZ) > maxDistance)) {
+                    continue;
+                }
+
+                long packed = BlockPos.asLong(x, y, z);
+                if (!visited.add(packed)) {
+                    continue;
+                }
+
+                BlockState state = reader.get(x, y, z);
+                if (state != null && predicate.test(state)) {
+                    found.add(packed);
+                    if (found.size() >= maxBlocks) {
+                        return found;
+                    }
+                    queue.enqueue(packed);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Convert packed positions back to BlockPos for APIs that need them
+     */
+    public static List<BlockPos> toBlockPositions(LongList packed) {
+        List<BlockPos> positions = new ArrayList<>(packed.size());
+        for (int i = 0; i < packed.size(); i++) {
+            positions.add(BlockPos.of(packed.getLong(i)));
+        }
+        return positions;
+    }
+
+    /**
+     * Remembers the last section looked up; consecutive reads are usually in the same one
+     */
+    private static final class SectionReader {
+        private final SectionSource source;
+        private long cachedKey = Long.MIN_VALUE;
+        private PalettedContainer<BlockState> cached;
+
+        SectionReader(SectionSource source) {
+            this.source = source;
+        }
+
+        @Nullable
+        BlockState get(int x, int y, int z) {
+            int sectionX = SectionPos.blockToSectionCoord(x);
+            int sectionY = SectionPos.blockToSectionCoord(y);
+            int sectionZ = SectionPos.blockToSectionCoord(z);
+            long key = SectionPos.asLong(sectionX, sectionY, sectionZ);
+            if (key != cachedKey) {
+                cachedKey = key;
+                cached = source.getSection(sectionX, sectionY, sectionZ);
+            }
+            return cached == null ? null : cached.get(x & 15, y & 15, z & 15);
+        }
+    }
+}
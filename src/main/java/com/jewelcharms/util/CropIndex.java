@@ -0,0 +1,258 @@
+package com.jewelcharms.util;
+
+import com.jewelcharms.JewelCharms;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.CropBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Positions of every {@link CropBlock} in the loaded chunks of each server level, for Quantum Harvest.
+ *
+ * A chunk is scanned once when it loads (skipping sections whose palette has no crops) and forgotten when
+ * it unloads. In between, block updates add and remove single positions. Changes that skip neighbour
+ * updates can leave stale entries, so lookups re-check the block and drop positions that are no longer
+ * crops. Only chunks that are already loaded are ever looked at.
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class CropIndex {
+    private static final Predicate<BlockState> IS_CROP = state -> state.getBlock() instanceof CropBlock;
+    /** Random picks tried per lookup before giving up */
+    private static final int MAX_PICK_ATTEMPTS = 16;
+
+    /**
+     * Packed crop positions of one chunk, indexable so a random one can be picked in constant time
+     */
+    private static final class ChunkCrops {
+        final LongArrayList positions = new LongArrayList();
+        final Long2IntOpenHashMap indexOf = new Long2IntOpenHashMap();
+
+        ChunkCrops() {
+            indexOf.defaultReturnValue(-1);
+        }
+
+        void add(long packed) {
+            if (!indexOf.containsKey(packed)) {
+                indexOf.put(packed, positions.size());
+                positions.add(packed);
+            }
+        }
+
+        boolean remove(long packed) {
+            int index = indexOf.remove(packed);
+            if (index < 0) {
+                return false;
+            }
+            long last = positions.removeLong(positions.size() - 1);
+            if (index < positions.size()) {
+                positions.set(index, last);
+                indexOf.put(last, index);
+            }
+            return true;
+        }
+
+        int size() {
+            return positions.size();
+        }
+
+        boolean isEmpty() {
+            return positions.isEmpty();
+        }
+    }
+
+    /** Crop positions by chunk, per level */
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<ChunkCrops>> levels = new HashMap<>();
+
+    private static Long2ObjectMap<ChunkCrops> getChunks(ServerLevel level) {
+        return levels.computeIfAbsent(level.dimension(), key -> new Long2ObjectOpenHashMap<>());
+    }
+
+    // ========== MAINTENANCE ==========
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !(event.getChunk() instanceof LevelChunk chunk)) {
+            return;
+        }
+
+        ChunkCrops crops = null;
+        LevelChunkSection[] sections = chunk.getSections();
+        int baseX = chunk.getPos().getMinBlockX();
+        int baseZ = chunk.getPos().getMinBlockZ();
+        for (int i = 0; i < sections.length; i++) {
+            LevelChunkSection section = sections[i];
+            if (section.hasOnlyAir() || !section.maybeHas(IS_CROP)) {
+                continue;
+            }
+            int baseY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(i));
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (IS_CROP.test(section.getBlockState(x, y, z))) {
+                            if (crops == null) {
+                                crops = new ChunkCrops();
+                            }
+                            crops.add(BlockPos.asLong(baseX + x, baseY + y, baseZ + z));
+                        }
+                    }
+                }
+            }
+        }
+
+        Long2ObjectMap<ChunkCrops> chunks = getChunks(level);
+        if (crops != null) {
+            chunks.put(chunk.getPos().toLong(), crops);
+        } else {
+            chunks.remove(chunk.getPos().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            Long2ObjectMap<ChunkCrops> chunks = levels.get(level.dimension());
+            if (chunks != null) {
+                chunks.remove(event.getChunk().getPos().toLong());
+            }
+        }
+    }
+
+    /**
+     * Fired after any block change that notifies neighbours: placing, breaking, replanting, trampling...
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        BlockPos pos = event.getPos();
+        long chunkKey = ChunkPos.asLong(pos);
+        Long2ObjectMap<ChunkCrops> chunks = getChunks(level);
+
+        if (IS_CROP.test(event.getState())) {
+            ChunkCrops crops = chunks.get(chunkKey);
+            if (crops == null) {
+                crops = new ChunkCrops();
+                chunks.put(chunkKey, crops);
+            }
+            crops.add(pos.asLong());
+        } else {
+            ChunkCrops crops = chunks.get(chunkKey);
+            if (crops != null && crops.remove(pos.asLong()) && crops.isEmpty()) {
+                chunks.remove(chunkKey);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            levels.remove(level.dimension());
+        }
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * A random crop within the given distance of {@code center} on each axis, other than the center itself.
+     *
+     * Picks a random entry among the chunks overlapping the range (weighted by their crop count, so every
+     * entry is equally likely) and re-checks it, retrying a bounded number of times. Entries outside the
+     * range or no longer crops are skipped; stale ones are dropped from the index.
+     * @return null if no crop was found
+     */
+    @Nullable
+    public static BlockPos findRandomCrop(ServerLevel level, BlockPos center, int horizontalRange, int verticalRange,
+                                         RandomSource random) {
+        Long2ObjectMap<ChunkCrops> chunks = levels.get(level.dimension());
+        if (chunks == null || chunks.isEmpty()) {
+            return null;
+        }
+
+        int cx = center.getX();
+        int cy = center.getY();
+        int cz = center.getZ();
+        long self = center.asLong();
+
+        int minChunkX = SectionPos.blockToSectionCoord(cx - horizontalRange);
+        int maxChunkX = SectionPos.blockToSectionCoord(cx + horizontalRange);
+        int minChunkZ = SectionPos.blockToSectionCoord(cz - horizontalRange);
+        int maxChunkZ = SectionPos.blockToSectionCoord(cz + horizontalRange);
+
+        int total = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                ChunkCrops crops = chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (crops != null) {
+                    total += crops.size();
+                }
+            }
+        }
+
+        for (int attempt = 0; attempt < MAX_PICK_ATTEMPTS && total > 0; attempt++) {
+            // Find the chunk holding the picked entry
+            int remaining = random.nextInt(total);
+            long chunkKey = 0;
+            ChunkCrops picked = null;
+            for (int chunkX = minChunkX; chunkX <= maxChunkX && picked == null; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    long key = ChunkPos.asLong(chunkX, chunkZ);
+                    ChunkCrops crops = chunks.get(key);
+                    if (crops == null) {
+                        continue;
+                    }
+                    if (remaining < crops.size()) {
+                        chunkKey = key;
+                        picked = crops;
+                        break;
+                    }
+                    remaining -= crops.size();
+                }
+            }
+            if (picked == null) {
+                return null;
+            }
+
+            long packed = picked.positions.getLong(remaining);
+            if (packed == self
+                    || Math.abs(BlockPos.getX(packed) - cx) > horizontalRange
+                    || Math.abs(BlockPos.getZ(packed) - cz) > horizontalRange
+                    || Math.abs(BlockPos.getY(packed) - cy) > verticalRange) {
+                continue;
+            }
+
+            // Entries can be stale if a crop vanished without a neighbour update; drop those as they come up
+            BlockPos pos = BlockPos.of(packed);
+            if (IS_CROP.test(level.getBlockState(pos))) {
+                return pos;
+            }
+            picked.remove(packed);
+            total--;
+            if (picked.isEmpty()) {
+                chunks.remove(chunkKey);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,153 @@
+package com.jewelcharms.util;
+
+import com.jewelcharms.JewelCharms;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.*;
+import net.minecraftforge.common.ToolAction;
+import net.minecraftforge.common.ToolActions;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-item classification table, so "is this a tool/weapon" is one identity-map lookup.
+ *
+ * Built from Forge {@link ToolActions}, vanilla and Forge tool tags and the vanilla item classes, which
+ * lets modded tools qualify even when they don't extend PickaxeItem/SwordItem. The table is built lazily
+ * and rebuilt whenever tags are (re)loaded; before the first tag load only actions and classes count.
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ItemClassifier {
+    public static final byte TOOL = 1;
+    public static final byte WEAPON = 2;
+    public static final byte BOW = 4;
+    /** Other damageable gear that accepts jewels (shears, fishing rods, armor, shields) but has no tool or weapon effects */
+    public static final byte OTHER = 8;
+
+    private static final byte SOCKETABLE = TOOL | WEAPON | BOW | OTHER;
+
+    private static final ToolAction[] TOOL_ACTIONS = {
+            ToolActions.PICKAXE_DIG, ToolActions.AXE_DIG, ToolActions.SHOVEL_DIG, ToolActions.HOE_DIG
+    };
+
+    private static final TagKey<Item> FORGE_BOWS = forgeTag("tools/bows");
+    private static final TagKey<Item> FORGE_CROSSBOWS = forgeTag("tools/crossbows");
+    private static final TagKey<Item> FORGE_TRIDENTS = forgeTag("tools/tridents");
+
+    private static volatile Reference2ByteMap<Item> table;
+    private static volatile List<Item> socketableItems;
+
+    private static TagKey<Item> forgeTag(String path) {
+        return TagKey.create(Registries.ITEM, new ResourceLocation("forge", path));
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        table = build();
+        socketableItems = null;
+    }
+
+    public static byte classify(Item item) {
+        Reference2ByteMap<Item> current = table;
+        if (current == null) {
+            current = table = build();
+        }
+        return current.getByte(item);
+    }
+
+    public static boolean isTool(ItemStack stack) {
+        return (classify(stack.getItem()) & TOOL) != 0;
+    }
+
+    /**
+     * Melee and ranged weapons
+     */
+    public static boolean isWeapon(ItemStack stack) {
+        return (classify(stack.getItem()) & (WEAPON | BOW)) != 0;
+    }
+
+    /**
+     * Whether jewels can be socketed into this item
+     */
+    public static boolean isSocketable(Item item) {
+        return (classify(item) & SOCKETABLE) != 0;
+    }
+
+    public static boolean isSocketable(ItemStack stack) {
+        return isSocketable(stack.getItem());
+    }
+
+    /**
+     * All items jewels can be socketed into, in registry order. Rebuilt after tags (re)load.
+     */
+    public static List<Item> getSocketableItems() {
+        List<Item> current = socketableItems;
+        if (current == null) {
+            List<Item> items = new ArrayList<>();
+            for (Item item : ForgeRegistries.ITEMS) {
+                if (isSocketable(item)) {
+                    items.add(item);
+                }
+            }
+            current = socketableItems = Collections.unmodifiableList(items);
+        }
+        return current;
+    }
+
+    private static Reference2ByteMap<Item> build() {
+        Reference2ByteMap<Item> result = new Reference2ByteOpenHashMap<>();
+        for (Item item : ForgeRegistries.ITEMS) {
+            byte flags = computeFlags(item);
+            if (flags != 0) {
+                result.put(item, flags);
+            }
+        }
+        return result;
+    }
+
+    private static byte computeFlags(Item item) {
+        ItemStack stack = new ItemStack(item);
+        byte flags = 0;
+
+        if (item instanceof DiggerItem
+                || stack.is(ItemTags.PICKAXES) || stack.is(ItemTags.AXES)
+                || stack.is(ItemTags.SHOVELS) || stack.is(ItemTags.HOES)) {
+            flags |= TOOL;
+        } else {
+            for (ToolAction action : TOOL_ACTIONS) {
+                if (stack.canPerformAction(action)) {
+                    flags |= TOOL;
+                    break;
+                }
+            }
+        }
+
+        if (item instanceof SwordItem || item instanceof TridentItem
+                || stack.is(ItemTags.SWORDS) || stack.is(FORGE_TRIDENTS)
+                || stack.canPerformAction(ToolActions.SWORD_SWEEP)) {
+            flags |= WEAPON;
+        }
+
+        if (item instanceof ProjectileWeaponItem || stack.is(FORGE_BOWS) || stack.is(FORGE_CROSSBOWS)) {
+            flags |= BOW;
+        }
+
+        if (flags == 0 && (stack.isDamageableItem()
+                || stack.canPerformAction(ToolActions.SHEARS_DIG)
+                || stack.canPerformAction(ToolActions.FISHING_ROD_CAST))) {
+            flags |= OTHER;
+        }
+
+        return flags;
+    }
+}
@@ -3,7 +3,7 @@ package com.jewelcharms.util;
 import com.jewelcharms.config.MaterialEffectConfig;
 import com.jewelcharms.config.MaterialMapping;
 import com.jewelcharms.config.RarityConfig;
-import com.jewelcharms.effect.JewelEffect;
+import com.jewelcharms.effect.EffectVector;
 import com.jewelcharms.init.ModItems;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
@@ -25,12 +25,27 @@ public class JewelCreationHelper {
     }
 
     public static ItemStack createJewel(List<ItemStack> materialStacks) {
-        if (materialStacks.isEmpty()) {
+        JewelData jewelData = createJewelData(materialStacks);
+        if (jewelData == null) {
             return ItemStack.EMPTY;
         }
 
+        ItemStack jewel = new ItemStack(ModItems.JEWEL.get());
+        jewelData.saveToItemStack(jewel);
+        return jewel;
+    }
+
+    /**
+     * The jewel the materials would make, without creating (and registering) an item for it
+     * @return null if none of the materials are valid
+     */
+    public static JewelData createJewelData(List<ItemStack> materialStacks) {
+        if (materialStacks.isEmpty()) {
+            return null;
+        }
+
         List<String> materialNames = new ArrayList<>();
-        Map<JewelEffect, Integer> combinedEffects = new HashMap<>();
+        EffectVector combinedEffects = new EffectVector();
         List<Integer> colors = new ArrayList<>();
 
         for (ItemStack stack : materialStacks) {
@@ -43,10 +58,7 @@ public class JewelCreationHelper {
 
                 if (mapping != null) {
                     // Add effects
-                    Map<JewelEffect, Integer> effects = mapping.getEffectsAsEnum();
-                    for (Map.Entry<JewelEffect, Integer> entry : effects.entrySet()) {
-                        combinedEffects.merge(entry.getKey(), entry.getValue(), Integer::sum);
-                    }
+                    combinedEffects.merge(mapping.getEffectVector());
 
                     // Collect color
                     colors.add(mapping.getColor());
@@ -55,18 +67,14 @@ public class JewelCreationHelper {
         }
 
         if (combinedEffects.isEmpty()) {
-            return ItemStack.EMPTY; // No valid materials
+            return null; // No valid materials
         }
 
         // Calculate rarity based on materials
         JewelRarity rarity = calculateRarity(materialStacks);
 
-        // Create jewel item with individual colors (no averaging)
-        ItemStack jewel = new ItemStack(ModItems.JEWEL.get());
-        JewelData jewelData = new JewelData(materialNames, combinedEffects, colors, rarity);
-        jewelData.saveToItemStack(jewel);
-
-        return jewel;
+        // Individual colors (no averaging)
+        return new JewelData(materialNames, combinedEffects.freeze(), colors, rarity);
     }
 
     /**
@@ -1,9 +1,12 @@
 package com.jewelcharms.util;
 
+import com.jewelcharms.config.ModConfig;
+import com.jewelcharms.effect.EffectVector;
 import com.jewelcharms.effect.JewelEffect;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.item.ItemStack;
 
 import java.util.*;
@@ -16,32 +19,33 @@ public class JewelData {
     private static final String COLOR_TAG = "Color";
     private static final String COLORS_TAG = "Colors";
     private static final String RARITY_TAG = "Rarity";
+    private static final String REF_TAG = "Ref"; // World registry id, in place of the fields above
 
     private final List<String> materials;
-    private final Map<JewelEffect, Integer> effects;
+    private final EffectVector effects;
     private final int color; // Keep for backwards compatibility
     private final List<Integer> individualColors;
     private final JewelRarity rarity;
 
-    public JewelData(List<String> materials, Map<JewelEffect, Integer> effects, int color) {
+    public JewelData(List<String> materials, EffectVector effects, int color) {
         this(materials, effects, color, JewelRarity.COMMON);
     }
 
-    public JewelData(List<String> materials, Map<JewelEffect, Integer> effects, int color, JewelRarity rarity) {
+    public JewelData(List<String> materials, EffectVector effects, int color, JewelRarity rarity) {
         this.materials = new ArrayList<>(materials);
-        this.effects = new HashMap<>(effects);
+        this.effects = JewelInterner.intern(effects);
         this.color = color;
         this.individualColors = Collections.singletonList(color);
         this.rarity = rarity;
     }
 
-    public JewelData(List<String> materials, Map<JewelEffect, Integer> effects, List<Integer> colors) {
+    public JewelData(List<String> materials, EffectVector effects, List<Integer> colors) {
         this(materials, effects, colors, JewelRarity.COMMON);
     }
 
-    public JewelData(List<String> materials, Map<JewelEffect, Integer> effects, List<Integer> colors, JewelRarity rarity) {
+    public JewelData(List<String> materials, EffectVector effects, List<Integer> colors, JewelRarity rarity) {
         this.materials = new ArrayList<>(materials);
-        this.effects = new HashMap<>(effects);
+        this.effects = JewelInterner.intern(effects);
         this.individualColors = new ArrayList<>(colors);
         // Calculate averaged color for backwards compatibility
         this.color = averageColors(colors);
@@ -66,8 +70,11 @@ public class JewelData {
         return new ArrayList<>(materials);
     }
 
-    public Map<JewelEffect, Integer> getEffects() {
-        return new HashMap<>(effects);
+    /**
+     * Read-only effect levels; shared, so no copy is made
+     */
+    public EffectVector getEffects() {
+        return effects;
     }
 
     public int getColor() {
@@ -95,112 +102,128 @@ public class JewelData {
 
     public void saveToItemStack(ItemStack stack) {
         CompoundTag tag = stack.getOrCreateTag();
-        CompoundTag jewelTag = new CompoundTag();
+        CompoundTag jewelTag = save();
+
+        // Store only a reference when the world registry is in use
+        if (JewelRegistry.isWritable()) {
+            CompoundTag refTag = new CompoundTag();
+            refTag.putLong(REF_TAG, JewelRegistry.register(jewelTag));
+            jewelTag = refTag;
+        }
+
+        tag.put(JEWEL_DATA_TAG, jewelTag);
+    }
+
+    public static JewelData fromItemStack(ItemStack stack) {
+        CompoundTag jewelTag = getDefinition(stack);
+        return jewelTag == null ? null : load(jewelTag);
+    }
+
+    /**
+     * Replace a registry reference on the stack with the full definition once the world registry is disabled
+     * @return true if the stack was changed
+     */
+    public static boolean migrate(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        if (ModConfig.isWorldJewelRegistryEnabled() || tag == null || !tag.getCompound(JEWEL_DATA_TAG).contains(REF_TAG, Tag.TAG_LONG)) {
+            return false;
+        }
+        CompoundTag definition = getDefinition(stack);
+        if (definition == null) {
+            return false;
+        }
+        tag.put(JEWEL_DATA_TAG, definition.copy());
+        return true;
+    }
+
+    /**
+     * The stack's jewel definition, resolving a registry reference if needed
+     */
+    private static CompoundTag getDefinition(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        if (tag == null || !tag.contains(JEWEL_DATA_TAG)) {
+            return null;
+        }
+
+        CompoundTag jewelTag = tag.getCompound(JEWEL_DATA_TAG);
+        if (jewelTag.contains(REF_TAG, Tag.TAG_LONG)) {
+            return JewelRegistry.resolve(jewelTag.getLong(REF_TAG));
+        }
+        return jewelTag;
+    }
+
+    private CompoundTag save() {
+        CompoundTag tag = new CompoundTag();
 
         // Save materials
         ListTag materialsList = new ListTag();
         for (String material : materials) {
             materialsList.add(StringTag.valueOf(material));
         }
-        jewelTag.put(MATERIALS_TAG, materialsList);
+        tag.put(MATERIALS_TAG, materialsList);
 
         // Save effects
         CompoundTag effectsTag = new CompoundTag();
-        for (Map.Entry<JewelEffect, Integer> entry : effects.entrySet()) {
-            effectsTag.putInt(entry.getKey().getId(), entry.getValue());
-        }
-        jewelTag.put(EFFECTS_TAG, effectsTag);
+        effects.forEach((effect, level) -> effectsTag.putInt(effect.getId(), level));
+        tag.put(EFFECTS_TAG, effectsTag);
 
         // Save color (backwards compatibility)
-        jewelTag.putInt(COLOR_TAG, color);
+        tag.putInt(COLOR_TAG, color);
 
         // Save individual colors
         int[] colorsArray = individualColors.stream().mapToInt(Integer::intValue).toArray();
-        jewelTag.putIntArray(COLORS_TAG, colorsArray);
+        tag.putIntArray(COLORS_TAG, colorsArray);
 
         // Save rarity
-        jewelTag.putString(RARITY_TAG, rarity.getId());
+        tag.putString(RARITY_TAG, rarity.getId());
 
-        tag.put(JEWEL_DATA_TAG, jewelTag);
+        return tag;
     }
 
-    public static JewelData fromItemStack(ItemStack stack) {
-        CompoundTag tag = stack.getTag();
-        if (tag == null || !tag.contains(JEWEL_DATA_TAG)) {
-            return null;
-        }
-
-        CompoundTag jewelTag = tag.getCompound(JEWEL_DATA_TAG);
-
+    private static JewelData load(CompoundTag tag) {
         // Load materials
         List<String> materials = new ArrayList<>();
-        ListTag materialsList = jewelTag.getList(MATERIALS_TAG, 8); // 8 = String type
+        ListTag materialsList = tag.getList(MATERIALS_TAG, 8); // 8 = String type
         for (int i = 0; i < materialsList.size(); i++) {
             materials.add(materialsList.getString(i));
         }
 
         // Load effects
-        Map<JewelEffect, Integer> effects = new HashMap<>();
-        CompoundTag effectsTag = jewelTag.getCompound(EFFECTS_TAG);
+        EffectVector effects = new EffectVector();
+        CompoundTag effectsTag = tag.getCompound(EFFECTS_TAG);
         for (String key : effectsTag.getAllKeys()) {
             JewelEffect effect = JewelEffect.fromId(key);
             if (effect != null) {
-                effects.put(effect, effectsTag.getInt(key));
+                effects.set(effect, effectsTag.getInt(key));
             }
         }
 
         // Load rarity (default to COMMON for backwards compatibility)
         JewelRarity rarity = JewelRarity.COMMON;
-        if (jewelTag.contains(RARITY_TAG)) {
-            rarity = JewelRarity.fromId(jewelTag.getString(RARITY_TAG));
+        if (tag.contains(RARITY_TAG)) {
+            rarity = JewelRarity.fromId(tag.getString(RARITY_TAG));
         }
 
         // Load individual colors if available
-        if (jewelTag.contains(COLORS_TAG)) {
-            int[] colorsArray = jewelTag.getIntArray(COLORS_TAG);
+        if (tag.contains(COLORS_TAG)) {
+            int[] colorsArray = tag.getIntArray(COLORS_TAG);
             List<Integer> colors = new ArrayList<>();
             for (int color : colorsArray) {
                 colors.add(color);
             }
-            return new JewelData(materials, effects, colors, rarity);
+            return new JewelData(materials, effects.freeze(), colors, rarity);
         }
 
         // Fallback to single color for backwards compatibility
-        int color = jewelTag.getInt(COLOR_TAG);
-        return new JewelData(materials, effects, color, rarity);
+        int color = tag.getInt(COLOR_TAG);
+        return new JewelData(materials, effects.freeze(), color, rarity);
     }
 
     /**
      * Serialize JewelData to a string for network transmission
      */
     public String serialize() {
-        CompoundTag tag = new CompoundTag();
-
-        // Save materials
-        ListTag materialsList = new ListTag();
-        for (String material : materials) {
-            materialsList.add(StringTag.valueOf(material));
-        }
-        tag.put(MATERIALS_TAG, materialsList);
-
-        // Save effects
-        CompoundTag effectsTag = new CompoundTag();
-        for (Map.Entry<JewelEffect, Integer> entry : effects.entrySet()) {
-            effectsTag.putInt(entry.getKey().getId(), entry.getValue());
-        }
-        tag.put(EFFECTS_TAG, effectsTag);
-
-        // Save color
-        tag.putInt(COLOR_TAG, color);
-
-        // Save individual colors
-        int[] colorsArray = individualColors.stream().mapToInt(Integer::intValue).toArray();
-        tag.putIntArray(COLORS_TAG, colorsArray);
-
-        // Save rarity
-        tag.putString(RARITY_TAG, rarity.getId());
-
-        return tag.toString();
+        return save().toString();
     }
 
     /**
@@ -209,44 +232,7 @@ public class JewelData {
     public static JewelData deserialize(String data) {
         try {
             // Parse the NBT string
-            CompoundTag tag = net.minecraft.nbt.TagParser.parseTag(data);
-
-            // Load materials
-            List<String> materials = new ArrayList<>();
-            ListTag materialsList = tag.getList(MATERIALS_TAG, 8); // 8 = String type
-            for (int i = 0; i < materialsList.size(); i++) {
-                materials.add(materialsList.getString(i));
-            }
-
-            // Load effects
-            Map<JewelEffect, Integer> effects = new HashMap<>();
-            CompoundTag effectsTag = tag.getCompound(EFFECTS_TAG);
-            for (String key : effectsTag.getAllKeys()) {
-                JewelEffect effect = JewelEffect.fromId(key);
-                if (effect != null) {
-                    effects.put(effect, effectsTag.getInt(key));
-                }
-            }
-
-            // Load rarity
-            JewelRarity rarity = JewelRarity.COMMON;
-            if (tag.contains(RARITY_TAG)) {
-                rarity = JewelRarity.fromId(tag.getString(RARITY_TAG));
-            }
-
-            // Load individual colors if available
-            if (tag.contains(COLORS_TAG)) {
-                int[] colorsArray = tag.getIntArray(COLORS_TAG);
-                List<Integer> colors = new ArrayList<>();
-                for (int color : colorsArray) {
-                    colors.add(color);
-                }
-                return new JewelData(materials, effects, colors, rarity);
-            }
-
-            // Fallback to single color
-            int color = tag.getInt(COLOR_TAG);
-            return new JewelData(materials, effects, color, rarity);
+            return load(net.minecraft.nbt.TagParser.parseTag(data));
         } catch (Exception e) {
             e.printStackTrace();
             return null;
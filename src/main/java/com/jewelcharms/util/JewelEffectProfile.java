@@ -0,0 +1,77 @@
+package com.jewelcharms.util;
+
+import com.jewelcharms.effect.EffectVector;
+import com.jewelcharms.effect.handler.CombatPipeline;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Immutable, pre-aggregated view of the jewel effects that apply to a single tool.
+ * Built once per distinct JewelCharms tag and shared through {@link JewelProfileCache}; equal profiles
+ * are further collapsed to one instance by {@link JewelInterner}.
+ */
+public final class JewelEffectProfile {
+    public static final JewelEffectProfile EMPTY = new JewelEffectProfile(null, EffectVector.EMPTY);
+
+    private final Item item;
+    private final EffectVector effects;
+    /** Compiled on first hit; derived from the fields above, so not part of equality */
+    private volatile CombatPipeline combatPipeline;
+
+    private JewelEffectProfile(Item item, EffectVector effects) {
+        this.item = item;
+        this.effects = effects;
+    }
+
+    /**
+     * Build the profile from the tool's stored effect summary
+     */
+    public static JewelEffectProfile compile(ItemStack stack) {
+        EffectVector summary = ToolJewelData.getEffectSummary(stack);
+        if (summary.isEmpty()) {
+            return EMPTY;
+        }
+        return JewelInterner.intern(new JewelEffectProfile(stack.getItem(), JewelInterner.intern(summary)));
+    }
+
+    /**
+     * The item this profile was compiled for, or null for {@link #EMPTY}
+     */
+    public Item getItem() {
+        return item;
+    }
+
+    /**
+     * Read-only applicable effects with their summed level
+     */
+    public EffectVector getEffects() {
+        return effects;
+    }
+
+    public boolean isEmpty() {
+        return effects.isEmpty();
+    }
+
+    /**
+     * The melee damage pipeline for these effects, compiled once per profile
+     */
+    public CombatPipeline getCombatPipeline() {
+        CombatPipeline pipeline = combatPipeline;
+        if (pipeline == null) {
+            pipeline = combatPipeline = CombatPipeline.compile(this);
+        }
+        return pipeline;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JewelEffectProfile other)) return false;
+        return item == other.item && effects.equals(other.effects);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(item) + effects.hashCode();
+    }
+}
@@ -0,0 +1,51 @@
+package com.jewelcharms.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.jewelcharms.effect.EffectVector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flyweight pools for decoded jewel data.
+ *
+ * Every stack decodes its own copy of the jewels it carries, but most of them describe the same handful of
+ * combinations. Interning by content collapses those copies into one shared instance, so heap use follows the
+ * number of distinct combinations rather than the number of stacks. The pools hold their entries weakly and
+ * only ever accept immutable objects.
+ */
+public class JewelInterner {
+
+    private static final Interner<String> MATERIAL_NAMES = Interners.newWeakInterner();
+    private static final Interner<List<String>> MATERIAL_LISTS = Interners.newWeakInterner();
+    private static final Interner<EffectVector> EFFECTS = Interners.newWeakInterner();
+    private static final Interner<ToolJewelData.AttachedJewel> JEWELS = Interners.newWeakInterner();
+    private static final Interner<JewelEffectProfile> PROFILES = Interners.newWeakInterner();
+
+    /**
+     * Shared, unmodifiable copy of a material list
+     */
+    public static List<String> internMaterials(List<String> materials) {
+        List<String> names = new ArrayList<>(materials.size());
+        for (String material : materials) {
+            names.add(MATERIAL_NAMES.intern(material));
+        }
+        return MATERIAL_LISTS.intern(List.copyOf(names));
+    }
+
+    /**
+     * Shared instance of a vector. Mutable vectors are frozen first.
+     */
+    public static EffectVector intern(EffectVector effects) {
+        return EFFECTS.intern(effects.isFrozen() ? effects : effects.copy().freeze());
+    }
+
+    public static ToolJewelData.AttachedJewel intern(ToolJewelData.AttachedJewel jewel) {
+        return JEWELS.intern(jewel);
+    }
+
+    public static JewelEffectProfile intern(JewelEffectProfile profile) {
+        return PROFILES.intern(profile);
+    }
+}
@@ -0,0 +1,68 @@
+package com.jewelcharms.util;
+
+import com.google.common.collect.MapMaker;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches compiled {@link JewelEffectProfile}s so repeat events on the same tool skip the NBT walk.
+ *
+ * Entries are keyed on the identity of the stack's JewelCharms compound. ToolJewelData never edits
+ * that compound in place - every write stores a fresh one - so a changed tag is always a miss, and
+ * keys are held weakly so entries vanish together with the stacks that own them.
+ */
+public class JewelProfileCache {
+
+    private static final ConcurrentMap<CompoundTag, JewelEffectProfile> PROFILES = new MapMaker().weakKeys().makeMap();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    /**
+     * Get the compiled profile for a stack, compiling it on first use
+     */
+    public static JewelEffectProfile get(ItemStack stack) {
+        CompoundTag jewelTag = ToolJewelData.getJewelTag(stack);
+        if (jewelTag == null) {
+            return JewelEffectProfile.EMPTY;
+        }
+
+        JewelEffectProfile profile = PROFILES.get(jewelTag);
+        if (profile != null && (profile.getItem() == stack.getItem() || profile == JewelEffectProfile.EMPTY)) {
+            hits.increment();
+            return profile;
+        }
+
+        misses.increment();
+        profile = JewelEffectProfile.compile(stack);
+        PROFILES.put(jewelTag, profile);
+        return profile;
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Fraction of lookups served from the cache (0.0 to 1.0)
+     */
+    public static double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * Drop every cached profile (e.g., after a config reload changes applicability)
+     */
+    public static void clear() {
+        PROFILES.clear();
+    }
+}
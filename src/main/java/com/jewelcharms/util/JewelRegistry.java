@@ -0,0 +1,97 @@
+package com.jewelcharms.util;
+
+import com.google.common.hash.Hashing;
+import com.jewelcharms.config.ModConfig;
+import com.jewelcharms.network.JewelDefinitionSyncPacket;
+import com.jewelcharms.network.ModNetwork;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content-addressed registry of jewel definitions.
+ *
+ * A definition is the compound that would otherwise be embedded in a stack's NBT. Its id is a 64-bit hash
+ * of its canonical SNBT form, so identical jewels share one id and an id always names the same content.
+ * Definitions are persisted per world in {@link JewelRegistrySavedData} and pushed to clients, letting
+ * stacks carry just the id.
+ *
+ * Because ids never change meaning, the in-memory cache can be shared by both logical sides and never
+ * needs invalidating; it is only cleared to free memory.
+ */
+public class JewelRegistry {
+
+    private static final Map<Long, CompoundTag> DEFINITIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Whether new writes should store references. Only the server thread can register definitions;
+     * everything else (client previews, registry disabled in config) keeps writing full definitions.
+     */
+    public static boolean isWritable() {
+        if (!ModConfig.isWorldJewelRegistryEnabled()) {
+            return false;
+        }
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        return server != null && server.isSameThread();
+    }
+
+    public static long idOf(CompoundTag definition) {
+        return Hashing.murmur3_128().hashString(definition.getAsString(), StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * Store a definition in the world registry and return its id.
+     * Must only be called when {@link #isWritable()} is true.
+     */
+    public static long register(CompoundTag definition) {
+        long id = idOf(definition);
+        // The cache is shared with an integrated client, so an id in it may still be missing from this world
+        CompoundTag stored = DEFINITIONS.computeIfAbsent(id, k -> definition.copy());
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (getSavedData(server).add(id, stored)) {
+            ModNetwork.sendToAll(new JewelDefinitionSyncPacket(Map.of(id, stored)));
+        }
+        return id;
+    }
+
+    /**
+     * Look up a definition by id, or null if it isn't known on this side (yet).
+     * The returned tag is shared and must not be modified.
+     */
+    public static CompoundTag resolve(long id) {
+        CompoundTag definition = DEFINITIONS.get(id);
+        if (definition != null) {
+            return definition;
+        }
+
+        // Server side, the cache may simply be cold since the world was loaded
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null && server.isSameThread()) {
+            definition = getSavedData(server).get(id);
+            if (definition != null) {
+                DEFINITIONS.put(id, definition);
+            }
+        }
+        return definition;
+    }
+
+    /**
+     * Cache definitions received from the server
+     */
+    public static void accept(Map<Long, CompoundTag> definitions) {
+        DEFINITIONS.putAll(definitions);
+    }
+
+    public static JewelRegistrySavedData getSavedData(MinecraftServer server) {
+        return server.overworld().getDataStorage().computeIfAbsent(
+                JewelRegistrySavedData::load, JewelRegistrySavedData::new, JewelRegistrySavedData.DATA_NAME);
+    }
+
+    public static void clear() {
+        DEFINITIONS.clear();
+    }
+}
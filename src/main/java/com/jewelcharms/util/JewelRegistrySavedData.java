@@ -0,0 +1,70 @@
+package com.jewelcharms.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.saveddata.SavedData;
+
+/**
+ * Per-world store of jewel definitions keyed by content hash.
+ * Saved with the overworld as data/jewelcharms_jewels.dat.
+ *
+ * Entries are never pruned: references can sit in unloaded chunks and offline players' data, so there is no
+ * way to tell an entry is unused. Only jewels that were actually made are registered (previews and recipe
+ * results are written inline), which bounds the store by the number of distinct jewels in the world.
+ */
+public class JewelRegistrySavedData extends SavedData {
+    public static final String DATA_NAME = "jewelcharms_jewels";
+
+    private static final String DEFINITIONS_TAG = "Definitions";
+    private static final String ID_TAG = "Id";
+    private static final String DEFINITION_TAG = "Def";
+
+    private final Long2ObjectMap<CompoundTag> definitions = new Long2ObjectOpenHashMap<>();
+
+    public static JewelRegistrySavedData load(CompoundTag tag) {
+        JewelRegistrySavedData data = new JewelRegistrySavedData();
+        ListTag list = tag.getList(DEFINITIONS_TAG, Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++) {
+            CompoundTag entry = list.getCompound(i);
+            data.definitions.put(entry.getLong(ID_TAG), entry.getCompound(DEFINITION_TAG));
+        }
+        return data;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag) {
+        ListTag list = new ListTag();
+        for (Long2ObjectMap.Entry<CompoundTag> entry : definitions.long2ObjectEntrySet()) {
+            CompoundTag entryTag = new CompoundTag();
+            entryTag.putLong(ID_TAG, entry.getLongKey());
+            entryTag.put(DEFINITION_TAG, entry.getValue());
+            list.add(entryTag);
+        }
+        tag.put(DEFINITIONS_TAG, list);
+        return tag;
+    }
+
+    public CompoundTag get(long id) {
+        return definitions.get(id);
+    }
+
+    /**
+     * Store a definition if it isn't already known
+     * @return true if it was new
+     */
+    public boolean add(long id, CompoundTag definition) {
+        if (definitions.containsKey(id)) {
+            return false;
+        }
+        definitions.put(id, definition);
+        setDirty();
+        return true;
+    }
+
+    public Long2ObjectMap<CompoundTag> getAll() {
+        return definitions;
+    }
+}
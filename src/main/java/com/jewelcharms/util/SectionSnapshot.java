@@ -0,0 +1,68 @@
+package com.jewelcharms.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.PalettedContainer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Read-only copy of the block states of the loaded chunk sections in a box, taken on the server thread
+ * so searches can run on another thread without touching the live level.
+ */
+public class SectionSnapshot implements BlockTraversal.SectionSource {
+    private final Long2ObjectMap<PalettedContainer<BlockState>> sections = new Long2ObjectOpenHashMap<>();
+
+    private SectionSnapshot() {
+    }
+
+    /**
+     * Copy every loaded section overlapping the box {@code center ± (radius, down/up)}.
+     * Must be called on the thread that owns the level.
+     */
+    public static SectionSnapshot capture(Level level, BlockPos center, int horizontalRadius, int down, int up) {
+        SectionSnapshot snapshot = new SectionSnapshot();
+
+        int minX = SectionPos.blockToSectionCoord(center.getX() - horizontalRadius);
+        int maxX = SectionPos.blockToSectionCoord(center.getX() + horizontalRadius);
+        int minZ = SectionPos.blockToSectionCoord(center.getZ() - horizontalRadius);
+        int maxZ = SectionPos.blockToSectionCoord(center.getZ() + horizontalRadius);
+        int minY = Math.max(level.getMinSection(), SectionPos.blockToSectionCoord(center.getY() - down));
+        int maxY = Math.min(level.getMaxSection() - 1, SectionPos.blockToSectionCoord(center.getY() + up));
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(x, z);
+                if (chunk == null) {
+                    continue;
+                }
+                for (int y = minY; y <= maxY; y++) {
+                    PalettedContainer<BlockState> states = chunk.getSection(level.getSectionIndexFromSectionY(y)).getStates();
+                    snapshot.sections.put(SectionPos.asLong(x, y, z), states.copy());
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    @Nullable
+    @Override
+    public PalettedContainer<BlockState> getSection(int sectionX, int sectionY, int sectionZ) {
+        return sections.get(SectionPos.asLong(sectionX, sectionY, sectionZ));
+    }
+
+    /**
+     * State at a position, or null if that section wasn't captured
+     */
+    @Nullable
+    public BlockState getBlockState(int x, int y, int z) {
+        PalettedContainer<BlockState> states = getSection(
+                SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(z));
+        return states == null ? null : states.get(x & 15, y & 15, z & 15);
+    }
+}
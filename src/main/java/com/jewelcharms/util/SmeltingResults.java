@@ -0,0 +1,72 @@
+package com.jewelcharms.util;
+
+import com.jewelcharms.JewelCharms;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.SmeltingRecipe;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Furnace outputs per input item, so Auto-Smelt is one identity-map lookup per drop.
+ *
+ * Built from every loaded smelting recipe (vanilla, modded and datapack) the first time it is needed, and
+ * dropped whenever datapacks are reloaded so the next lookup sees the new recipes. When several recipes
+ * accept the same item, the first one loaded wins, as it would in a furnace.
+ */
+@Mod.EventBusSubscriber(modid = JewelCharms.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class SmeltingResults {
+
+    private static volatile Reference2ObjectMap<Item, ItemStack> table;
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        // Fired after every datapack reload, once ingredient tags are bound again
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            table = null;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        table = null;
+    }
+
+    /**
+     * The smelting output for one of this item, or {@link ItemStack#EMPTY} if it can't be smelted.
+     * The returned stack is shared and must be copied before use.
+     */
+    public static ItemStack get(Level level, Item item) {
+        Reference2ObjectMap<Item, ItemStack> current = table;
+        if (current == null) {
+            current = table = build(level);
+        }
+        return current.get(item);
+    }
+
+    private static Reference2ObjectMap<Item, ItemStack> build(Level level) {
+        Reference2ObjectMap<Item, ItemStack> result = new Reference2ObjectOpenHashMap<>();
+        result.defaultReturnValue(ItemStack.EMPTY);
+        RegistryAccess registryAccess = level.registryAccess();
+
+        for (SmeltingRecipe recipe : level.getRecipeManager().getAllRecipesFor(RecipeType.SMELTING)) {
+            ItemStack output = recipe.getResultItem(registryAccess);
+            if (output.isEmpty() || recipe.getIngredients().isEmpty()) {
+                continue;
+            }
+            Ingredient ingredient = recipe.getIngredients().get(0);
+            for (ItemStack input : ingredient.getItems()) {
+                result.putIfAbsent(input.getItem(), output);
+            }
+        }
+        return result;
+    }
+}
@@ -1,144 +1,446 @@
 package com.jewelcharms.util;
 
+import com.jewelcharms.effect.EffectVector;
 import com.jewelcharms.effect.JewelEffect;
+import com.jewelcharms.config.MaterialEffectConfig;
+import com.jewelcharms.config.ModConfig;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.registries.ForgeRegistries;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
+/**
+ * Reads and writes the jewels attached to a tool.
+ *
+ * Schema v2 (current) stores each jewel as {Fx:[I; packed effects], Mat:[I; item ids], Color:int} inside
+ * JewelCharms{V:2b, Jewels:[...]}. Effects are packed as (ordinal << 16 | level) and materials use the
+ * item registry's numeric ids, which Forge keeps stable per world and syncs to clients.
+ * Legacy (v1) tags use string keys throughout; they are still readable and are rewritten to v2 by
+ * {@link #migrate(ItemStack)}.
+ *
+ * Every write also stores a denormalized summary next to the jewel list: Sum holds the packed effects of
+ * all jewels combined and filtered to what applies to this kind of item, and Mask their presence bits.
+ * Runtime code reads the summary; the per-jewel entries are only needed for display and removal.
+ *
+ * When the world jewel registry is in use, the jewel list is replaced by Refs:[L; ids], each id naming a
+ * jewel entry in {@link JewelRegistry}. The summary stays inline so effects never wait on a lookup.
+ */
 public class ToolJewelData {
     private static final String TOOL_JEWELS_TAG = "JewelCharms";
     private static final String JEWELS_LIST_TAG = "Jewels";
+    private static final String REFS_TAG = "Refs";
+    private static final String VERSION_TAG = "V";
+    private static final String EFFECTS_TAG = "Fx";
+    private static final String MATERIALS_TAG = "Mat";
+    private static final String MATERIAL_NAMES_TAG = "MatN"; // Only when a material has no registry id
+    private static final String COLOR_TAG = "Color";
+    private static final String SUMMARY_TAG = "Sum";
+    private static final String MASK_TAG = "Mask";
     private static final int MAX_JEWELS = 2;
 
+    public static final byte SCHEMA_VERSION = 2;
+
+    // Legacy (v1) keys
+    private static final String LEGACY_MATERIALS_TAG = "Materials";
+    private static final String LEGACY_MATERIAL_TAG = "Material";
+    private static final String LEGACY_EFFECTS_TAG = "Effects";
+
     public static class AttachedJewel {
         private final List<String> materials;
-        private final Map<JewelEffect, Integer> effects;
+        private final EffectVector effects;
         private final int color;
 
-        public AttachedJewel(List<String> materials, Map<JewelEffect, Integer> effects, int color) {
+        private AttachedJewel(List<String> materials, EffectVector effects, int color) {
             this.materials = materials;
             this.effects = effects;
             this.color = color;
         }
 
+        /**
+         * Shared instance for the given content; see {@link JewelInterner}
+         */
+        public static AttachedJewel of(List<String> materials, EffectVector effects, int color) {
+            return JewelInterner.intern(new AttachedJewel(
+                    JewelInterner.internMaterials(materials), JewelInterner.intern(effects), color));
+        }
+
+        /**
+         * Shared, unmodifiable material names
+         */
         public List<String> getMaterials() {
             return materials;
         }
 
-        public Map<JewelEffect, Integer> getEffects() {
+        public EffectVector getEffects() {
             return effects;
         }
 
         public int getColor() {
             return color;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof AttachedJewel other)) return false;
+            return color == other.color && materials.equals(other.materials) && effects.equals(other.effects);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * materials.hashCode() + effects.hashCode()) + color;
+        }
+    }
+
+    public static boolean isTool(ItemStack stack) {
+        return ItemClassifier.isTool(stack);
+    }
+
+    public static boolean isWeapon(ItemStack stack) {
+        return ItemClassifier.isWeapon(stack);
+    }
+
+    /**
+     * Get the stack's JewelCharms compound without copying it, or null if it has none.
+     * The returned tag must be treated as read-only; writers replace it instead of editing it.
+     */
+    public static CompoundTag getJewelTag(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        if (tag == null) {
+            return null;
+        }
+        Tag jewelTag = tag.get(TOOL_JEWELS_TAG);
+        return jewelTag instanceof CompoundTag compound ? compound : null;
     }
 
     public static boolean canAttachJewel(ItemStack tool) {
-        return getJewelCount(tool) < MAX_JEWELS;
+        return getJewelCount(tool) < MAX_JEWELS && !hasUnresolvedJewels(tool);
+    }
+
+    /**
+     * Whether some registry references on the tool name definitions unknown on this side.
+     * Such tools must not be rewritten, or the unknown jewels would be lost.
+     */
+    public static boolean hasUnresolvedJewels(ItemStack tool) {
+        CompoundTag jewelTag = getJewelTag(tool);
+        if (jewelTag == null || !jewelTag.contains(REFS_TAG, Tag.TAG_LONG_ARRAY)) {
+            return false;
+        }
+        for (long id : jewelTag.getLongArray(REFS_TAG)) {
+            if (JewelRegistry.resolve(id) == null) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static int getJewelCount(ItemStack tool) {
-        CompoundTag tag = tool.getTag();
-        if (tag == null || !tag.contains(TOOL_JEWELS_TAG)) {
+        CompoundTag jewelTag = getJewelTag(tool);
+        if (jewelTag == null) {
             return 0;
         }
+        if (jewelTag.contains(REFS_TAG, Tag.TAG_LONG_ARRAY)) {
+            return jewelTag.getLongArray(REFS_TAG).length;
+        }
+        return jewelTag.getList(JEWELS_LIST_TAG, Tag.TAG_COMPOUND).size();
+    }
 
-        CompoundTag jewelTag = tag.getCompound(TOOL_JEWELS_TAG);
-        ListTag jewelsList = jewelTag.getList(JEWELS_LIST_TAG, 10); // 10 = Compound type
-        return jewelsList.size();
+    /**
+     * Combined effects of all attached jewels that apply to this item, read from the stored summary.
+     * Tags written before summaries existed are summed on the fly.
+     */
+    public static EffectVector getEffectSummary(ItemStack tool) {
+        CompoundTag jewelTag = getJewelTag(tool);
+        if (jewelTag == null) {
+            return EffectVector.EMPTY;
+        }
+        if (jewelTag.contains(SUMMARY_TAG, Tag.TAG_INT_ARRAY)) {
+            return JewelInterner.intern(unpackEffects(jewelTag.getIntArray(SUMMARY_TAG)));
+        }
+        return summarize(tool, getAttachedJewels(tool));
     }
 
+    /**
+     * Presence bits of the stored summary, without decoding it
+     */
+    public static long getEffectMask(ItemStack tool) {
+        CompoundTag jewelTag = getJewelTag(tool);
+        if (jewelTag == null) {
+            return 0;
+        }
+        if (jewelTag.contains(MASK_TAG, Tag.TAG_LONG)) {
+            return jewelTag.getLong(MASK_TAG);
+        }
+        return getEffectSummary(tool).getMask();
+    }
+
+    public static boolean hasEffect(ItemStack tool, JewelEffect effect) {
+        return (getEffectMask(tool) & EffectVector.bit(effect)) != 0;
+    }
+
+    public static boolean isLegacy(CompoundTag jewelTag) {
+        return jewelTag.getByte(VERSION_TAG) < SCHEMA_VERSION;
+    }
+
+    /**
+     * Attach a jewel, writing the full definitions. Recipe results are assembled as previews before anyone
+     * takes them, so they stay out of the world registry; {@link #migrate(ItemStack)} moves them there once
+     * the tool is loaded into a container or the world.
+     */
     public static void attachJewel(ItemStack tool, JewelData jewelData) {
         if (!canAttachJewel(tool)) {
             return;
         }
 
-        CompoundTag tag = tool.getOrCreateTag();
-        CompoundTag jewelCharmTag = tag.getCompound(TOOL_JEWELS_TAG);
+        List<AttachedJewel> jewels = new ArrayList<>(getAttachedJewels(tool));
+        jewels.add(AttachedJewel.of(jewelData.getMaterials(), jewelData.getEffects(), jewelData.getColor()));
+        writeJewels(tool, jewels, false);
+    }
+
+    public static List<AttachedJewel> getAttachedJewels(ItemStack tool) {
+        List<AttachedJewel> jewels = new ArrayList<>();
+
+        CompoundTag jewelCharmTag = getJewelTag(tool);
+        if (jewelCharmTag == null) {
+            return jewels;
+        }
 
-        if (!tag.contains(TOOL_JEWELS_TAG)) {
-            jewelCharmTag = new CompoundTag();
+        if (jewelCharmTag.contains(REFS_TAG, Tag.TAG_LONG_ARRAY)) {
+            for (long id : jewelCharmTag.getLongArray(REFS_TAG)) {
+                CompoundTag jewelEntry = JewelRegistry.resolve(id);
+                if (jewelEntry != null) {
+                    jewels.add(readJewel(jewelEntry));
+                }
+            }
+            return jewels;
         }
 
-        ListTag jewelsList = jewelCharmTag.getList(JEWELS_LIST_TAG, 10);
+        boolean legacy = isLegacy(jewelCharmTag);
+        ListTag jewelsList = jewelCharmTag.getList(JEWELS_LIST_TAG, Tag.TAG_COMPOUND);
+        for (int i = 0; i < jewelsList.size(); i++) {
+            CompoundTag jewelEntry = jewelsList.getCompound(i);
+            jewels.add(legacy ? readLegacyJewel(jewelEntry) : readJewel(jewelEntry));
+        }
 
-        // Create jewel entry
-        CompoundTag jewelEntry = new CompoundTag();
+        return jewels;
+    }
 
-        // Save materials
-        ListTag materialsList = new ListTag();
-        for (String material : jewelData.getMaterials()) {
-            CompoundTag materialTag = new CompoundTag();
-            materialTag.putString("Material", material);
-            materialsList.add(materialTag);
+    /**
+     * Rewrite a legacy (v1) JewelCharms tag in the v2 schema, and move inline jewels into the world
+     * registry when it is in use. With the registry disabled, references are embedded again instead.
+     * @return true if the stack was changed
+     */
+    public static boolean migrate(ItemStack tool) {
+        CompoundTag jewelTag = getJewelTag(tool);
+        if (jewelTag == null) {
+            return false;
         }
-        jewelEntry.put("Materials", materialsList);
+        boolean inline = !jewelTag.contains(REFS_TAG, Tag.TAG_LONG_ARRAY);
+        if (!inline && !ModConfig.isWorldJewelRegistryEnabled()) {
+            return embedDefinitions(tool);
+        }
+        if (!isLegacy(jewelTag) && !(inline && JewelRegistry.isWritable())) {
+            return false;
+        }
+        writeJewels(tool, getAttachedJewels(tool), JewelRegistry.isWritable());
+        return true;
+    }
 
-        // Save effects
-        CompoundTag effectsTag = new CompoundTag();
-        for (Map.Entry<JewelEffect, Integer> entry : jewelData.getEffects().entrySet()) {
-            effectsTag.putInt(entry.getKey().getId(), entry.getValue());
+    /**
+     * Replace registry references with the full jewel entries
+     * @return true if the stack was changed
+     */
+    private static boolean embedDefinitions(ItemStack tool) {
+        CompoundTag jewelTag = getJewelTag(tool);
+        if (jewelTag == null || !jewelTag.contains(REFS_TAG, Tag.TAG_LONG_ARRAY)) {
+            return false;
         }
-        jewelEntry.put("Effects", effectsTag);
+        if (hasUnresolvedJewels(tool)) {
+            return false; // Keep the references rather than lose jewels
+        }
+        writeJewels(tool, getAttachedJewels(tool), false);
+        return true;
+    }
 
-        // Save color
-        jewelEntry.putInt("Color", jewelData.getColor());
+    public static void removeAllJewels(ItemStack tool) {
+        CompoundTag tag = tool.getTag();
+        if (tag != null && tag.contains(TOOL_JEWELS_TAG)) {
+            tag.remove(TOOL_JEWELS_TAG);
+        }
+    }
+
+    // ========== ENCODING ==========
+
+    private static void writeJewels(ItemStack tool, List<AttachedJewel> jewels, boolean useRegistry) {
+        EffectVector summary = summarize(tool, jewels);
 
-        jewelsList.add(jewelEntry);
-        jewelCharmTag.put(JEWELS_LIST_TAG, jewelsList);
-        tag.put(TOOL_JEWELS_TAG, jewelCharmTag);
+        // Always write a fresh compound so cached profiles keyed on the old one are invalidated
+        CompoundTag jewelCharmTag = new CompoundTag();
+        jewelCharmTag.putByte(VERSION_TAG, SCHEMA_VERSION);
+        if (useRegistry) {
+            long[] refs = new long[jewels.size()];
+            for (int i = 0; i < refs.length; i++) {
+                refs[i] = JewelRegistry.register(writeJewel(jewels.get(i)));
+            }
+            jewelCharmTag.putLongArray(REFS_TAG, refs);
+        } else {
+            ListTag jewelsList = new ListTag();
+            for (AttachedJewel jewel : jewels) {
+                jewelsList.add(writeJewel(jewel));
+            }
+            jewelCharmTag.put(JEWELS_LIST_TAG, jewelsList);
+        }
+        jewelCharmTag.putIntArray(SUMMARY_TAG, packEffects(summary));
+        jewelCharmTag.putLong(MASK_TAG, summary.getMask());
+        tool.getOrCreateTag().put(TOOL_JEWELS_TAG, jewelCharmTag);
     }
 
-    public static List<AttachedJewel> getAttachedJewels(ItemStack tool) {
-        List<AttachedJewel> jewels = new ArrayList<>();
+    /**
+     * Sum the jewels' effects, keeping only those applicable to the tool's type
+     */
+    private static EffectVector summarize(ItemStack tool, List<AttachedJewel> jewels) {
+        if (jewels.isEmpty()) {
+            return EffectVector.EMPTY;
+        }
 
-        CompoundTag tag = tool.getTag();
-        if (tag == null || !tag.contains(TOOL_JEWELS_TAG)) {
-            return jewels;
+        long allowMask = 0;
+        if (isWeapon(tool)) {
+            allowMask |= EffectVector.WEAPON_MASK;
+        }
+        if (isTool(tool)) {
+            allowMask |= EffectVector.TOOL_MASK;
         }
 
-        CompoundTag jewelCharmTag = tag.getCompound(TOOL_JEWELS_TAG);
-        ListTag jewelsList = jewelCharmTag.getList(JEWELS_LIST_TAG, 10);
+        EffectVector summary = new EffectVector();
+        for (AttachedJewel jewel : jewels) {
+            summary.merge(jewel.getEffects(), allowMask);
+        }
+        return summary.freeze();
+    }
 
-        for (int i = 0; i < jewelsList.size(); i++) {
-            CompoundTag jewelEntry = jewelsList.getCompound(i);
+    /**
+     * One int per effect: ordinal in the high half, level in the low half
+     */
+    private static int[] packEffects(EffectVector effects) {
+        int[] packed = new int[effects.count()];
+        int index = 0;
+        for (long m = effects.getMask(); m != 0; m &= m - 1) {
+            int ordinal = Long.numberOfTrailingZeros(m);
+            packed[index++] = (ordinal << 16) | (effects.get(EffectVector.effectAt(ordinal)) & 0xFFFF);
+        }
+        return packed;
+    }
+
+    private static EffectVector unpackEffects(int[] packed) {
+        EffectVector effects = new EffectVector();
+        for (int entry : packed) {
+            int ordinal = entry >>> 16;
+            if (ordinal < EffectVector.SIZE) {
+                effects.set(EffectVector.effectAt(ordinal), (short) entry);
+            }
+        }
+        return effects;
+    }
 
-            // Load materials
-            List<String> materials = new ArrayList<>();
-            ListTag materialsList = jewelEntry.getList("Materials", 10);
-            for (int j = 0; j < materialsList.size(); j++) {
-                CompoundTag materialTag = materialsList.getCompound(j);
-                materials.add(materialTag.getString("Material"));
+    private static CompoundTag writeJewel(AttachedJewel jewel) {
+        CompoundTag jewelEntry = new CompoundTag();
+
+        jewelEntry.putIntArray(EFFECTS_TAG, packEffects(jewel.getEffects()));
+
+        // Materials: registry ids, or plain names if any of them can't be resolved
+        List<String> materials = jewel.getMaterials();
+        int[] materialIds = new int[materials.size()];
+        boolean resolved = true;
+        for (int i = 0; i < materialIds.length; i++) {
+            Item item = resolveMaterial(materials.get(i));
+            if (item == null) {
+                resolved = false;
+                break;
             }
+            materialIds[i] = Item.getId(item);
+        }
+        if (resolved) {
+            jewelEntry.putIntArray(MATERIALS_TAG, materialIds);
+        } else {
+            ListTag names = new ListTag();
+            for (String material : materials) {
+                names.add(StringTag.valueOf(material));
+            }
+            jewelEntry.put(MATERIAL_NAMES_TAG, names);
+        }
+
+        jewelEntry.putInt(COLOR_TAG, jewel.getColor());
+        return jewelEntry;
+    }
+
+    private static AttachedJewel readJewel(CompoundTag jewelEntry) {
+        EffectVector effects = unpackEffects(jewelEntry.getIntArray(EFFECTS_TAG));
 
-            // Load effects
-            Map<JewelEffect, Integer> effects = new java.util.HashMap<>();
-            CompoundTag effectsTag = jewelEntry.getCompound("Effects");
-            for (String key : effectsTag.getAllKeys()) {
-                JewelEffect effect = JewelEffect.fromId(key);
-                if (effect != null) {
-                    effects.put(effect, effectsTag.getInt(key));
+        List<String> materials = new ArrayList<>();
+        if (jewelEntry.contains(MATERIALS_TAG, Tag.TAG_INT_ARRAY)) {
+            for (int id : jewelEntry.getIntArray(MATERIALS_TAG)) {
+                ResourceLocation itemId = ForgeRegistries.ITEMS.getKey(Item.byId(id));
+                if (itemId != null) {
+                    materials.add(itemId.getPath());
                 }
             }
+        } else {
+            ListTag names = jewelEntry.getList(MATERIAL_NAMES_TAG, Tag.TAG_STRING);
+            for (int i = 0; i < names.size(); i++) {
+                materials.add(names.getString(i));
+            }
+        }
 
-            // Load color
-            int color = jewelEntry.getInt("Color");
+        return AttachedJewel.of(materials, effects.freeze(), jewelEntry.getInt(COLOR_TAG));
+    }
 
-            jewels.add(new AttachedJewel(materials, effects, color));
+    private static AttachedJewel readLegacyJewel(CompoundTag jewelEntry) {
+        // Load materials
+        List<String> materials = new ArrayList<>();
+        ListTag materialsList = jewelEntry.getList(LEGACY_MATERIALS_TAG, Tag.TAG_COMPOUND);
+        for (int j = 0; j < materialsList.size(); j++) {
+            CompoundTag materialTag = materialsList.getCompound(j);
+            materials.add(materialTag.getString(LEGACY_MATERIAL_TAG));
         }
 
-        return jewels;
+        // Load effects
+        EffectVector effects = new EffectVector();
+        CompoundTag effectsTag = jewelEntry.getCompound(LEGACY_EFFECTS_TAG);
+        for (String key : effectsTag.getAllKeys()) {
+            JewelEffect effect = JewelEffect.fromId(key);
+            if (effect != null) {
+                effects.set(effect, effectsTag.getInt(key));
+            }
+        }
+
+        // Load color
+        int color = jewelEntry.getInt(COLOR_TAG);
+
+        return AttachedJewel.of(materials, effects.freeze(), color);
     }
 
-    public static void removeAllJewels(ItemStack tool) {
-        CompoundTag tag = tool.getTag();
-        if (tag != null && tag.contains(TOOL_JEWELS_TAG)) {
-            tag.remove(TOOL_JEWELS_TAG);
+    /**
+     * Material names are stored as item paths (e.g. "diamond"); find the item they came from
+     */
+    private static Item resolveMaterial(String materialName) {
+        MaterialEffectConfig config = MaterialEffectConfig.getInstance();
+        if (config != null) {
+            Item item = config.getItemForMaterialName(materialName);
+            if (item != null) {
+                return item;
+            }
+        }
+        ResourceLocation itemId = ResourceLocation.tryParse(materialName);
+        if (itemId != null && ForgeRegistries.ITEMS.containsKey(itemId)) {
+            return ForgeRegistries.ITEMS.getValue(itemId);
         }
+        return null;
     }
 }